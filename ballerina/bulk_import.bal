@@ -0,0 +1,35 @@
+// Copyright (c) 2025 WSO2 LLC (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Tracks a bulk import running apart from the strand that started it.
+public isolated class BulkImportJob {
+
+    # Gets the progress of the import so far.
+    #
+    # + return - The progress of the import
+    public isolated function getProgress() returns BulkImportProgress = @java:Method {
+        'class: "io.ballerina.lib.milvus.BulkImporter"
+    } external;
+
+    # Waits for the import to complete and gets its result.
+    #
+    # + return - The result of the import, otherwise an error if the file could not be read to the end
+    public isolated function getResult() returns BulkImportResult|Error = @java:Method {
+        'class: "io.ballerina.lib.milvus.BulkImporter"
+    } external;
+}
@@ -33,6 +33,30 @@ public isolated client class Client {
         'class: "io.ballerina.lib.milvus.Client"
     } external;
 
+    # Gets the statistics of the connections used by the client. The `activeConnections` reaching the
+    # `maxConnections` or a growing `acquireTimeoutCount` indicates that the pool is saturated. Only the connections
+    # to the service URL are counted, not the ones to the `readEndpoints`.
+    #
+    # + return - The statistics of the connections
+    public isolated function getPoolStatistics() returns PoolStatistics = @java:Method {
+        'class: "io.ballerina.lib.milvus.Client"
+    } external;
+
+    # Gets the readiness of the client, which is ready once all the collections of its `warmup` are loaded and
+    # searched. A client without a warmup is always ready.
+    #
+    # + return - The readiness of the client, along with the warmup state of each collection
+    public isolated function getReadiness() returns Readiness = @java:Method {
+        'class: "io.ballerina.lib.milvus.Client"
+    } external;
+
+    # Gets the statistics of the search result cache of the client.
+    #
+    # + return - The statistics of the cache, or `()` if the search results are not cached
+    public isolated function getSearchCacheStatistics() returns SearchCacheStatistics? = @java:Method {
+        'class: "io.ballerina.lib.milvus.Client"
+    } external;
+
     # Lists all the collections in the Milvus vector database.
     #
     # + return - A list of collection names
@@ -40,7 +64,6 @@ public isolated client class Client {
         'class: "io.ballerina.lib.milvus.Client"
     } external;
 
-    // TODO: Add support for both dynamic fields and collection schema when creating a collection
     # Creates a new collection in the Milvus vector database.
     #
     # + request - The request to create a collection
@@ -52,8 +75,10 @@ public isolated client class Client {
     # Loads a collection in the Milvus vector database.
     # 
     # + collectionName - The name of the collection to load
+    # + databaseName - The name of the database of the collection. When not set, the database of the client is used
     # + return - `()` if the collection is loaded successfully, otherwise an error
-    remote isolated function loadCollection(string collectionName) returns Error? = @java:Method {
+    remote isolated function loadCollection(string collectionName, string? databaseName = ())
+    returns Error? = @java:Method {
         'class: "io.ballerina.lib.milvus.Client"
     } external;
 
@@ -73,6 +98,42 @@ public isolated client class Client {
         'class: "io.ballerina.lib.milvus.Client"
     } external;
 
+    # Upserts a batch of entries into a collection in the Milvus vector database. The entries are sent in chunks
+    # bounded by the `batchSize` and `maxBatchBytes` of the request.
+    #
+    # + request - The request to upsert data in batches
+    # + return - The number of upserted entries if the data is upserted successfully, otherwise an error
+    remote isolated function upsertBatch(UpsertBatchRequest request) returns int|Error {
+        UpsertData[]|stream<UpsertData, error?> data = request.data;
+        if data is UpsertData[] {
+            return self.externUpsertBatch(request, data);
+        }
+        int upsertCount = 0;
+        UpsertData[] chunk = [];
+        record {|UpsertData value;|}|error? entry = data.next();
+        while entry is record {|UpsertData value;|} {
+            chunk.push(entry.value);
+            if chunk.length() >= request.batchSize {
+                upsertCount += check self.externUpsertBatch(request, chunk);
+                chunk = [];
+            }
+            entry = data.next();
+        }
+        if entry is error {
+            return error Error("Failed to read the entries to upsert", entry);
+        }
+        if chunk.length() > 0 {
+            upsertCount += check self.externUpsertBatch(request, chunk);
+        }
+        return upsertCount;
+    }
+
+    private isolated function externUpsertBatch(UpsertBatchRequest request, UpsertData[] data) returns int|Error =
+    @java:Method {
+        'class: "io.ballerina.lib.milvus.Client",
+        name: "upsertBatch"
+    } external;
+
     # Deletes data from a collection in the Milvus vector database.
     # 
     # + request - The request to delete data
@@ -88,4 +149,74 @@ public isolated client class Client {
     remote isolated function search(SearchRequest request) returns SearchResult[][]|Error = @java:Method {
         'class: "io.ballerina.lib.milvus.Client"
     } external;
+
+    # Searches several vector fields of a collection in the Milvus vector database in a single call, such as a dense
+    # and a sparse embedding of the same text, and fuses the results of the searches with a ranker.
+    #
+    # + request - The request to run the hybrid search
+    # + return - The fused results of each vector of the searches, otherwise an error
+    remote isolated function hybridSearch(HybridSearchRequest request) returns SearchResult[][]|Error = @java:Method {
+        'class: "io.ballerina.lib.milvus.Client"
+    } external;
+
+    # Queries the entities of a collection in the Milvus vector database that match a filter or a set of ids.
+    #
+    # + request - The request to query data
+    # + return - The matching entities, with the requested output fields, otherwise an error
+    remote isolated function query(QueryRequest request) returns map<anydata>[]|Error = @java:Method {
+        'class: "io.ballerina.lib.milvus.Client"
+    } external;
+
+    # Queries the entities of a collection in the Milvus vector database as a stream. The entities are fetched one
+    # page at a time, so only a single page is held in memory while the stream is consumed. The stream holds a
+    # connection of the client until it is consumed to the end, so a stream that is left early must be closed.
+    #
+    # + request - The request to query data
+    # + return - A stream of the matching entities, otherwise an error
+    remote isolated function queryIterator(QueryIteratorRequest request) returns stream<map<anydata>, Error?>|Error {
+        EntityIterator iterator = new;
+        check self.openQueryIterator(request, iterator);
+        return new (iterator);
+    }
+
+    # Searches for the nearest neighbours of a vector in the Milvus vector database as a stream. The results are
+    # fetched one page at a time, in the order of their similarity, so only a single page is held in memory while
+    # the stream is consumed. The stream holds a connection of the client until it is consumed to the end, so a
+    # stream that is left early must be closed.
+    #
+    # + request - The request to search for data
+    # + return - A stream of the search results, otherwise an error
+    remote isolated function searchIterator(SearchIteratorRequest request) returns stream<SearchResult, Error?>|Error {
+        SearchResultIterator iterator = new;
+        check self.openSearchIterator(request, iterator);
+        return new (iterator);
+    }
+
+    # Imports the rows of a local JSON lines or NumPy file into a collection. The file is read in chunks, which are
+    # converted and upserted in parallel while the file is still being read, and the import runs in the background
+    # until it is completed. Each chunk is upserted under the retry policy of the client, so a file can be imported
+    # again after a partial failure without duplicating its rows.
+    #
+    # + request - The request to import the file
+    # + return - The job tracking the import, otherwise an error if the import could not be started
+    remote isolated function bulkImport(BulkImportRequest request) returns BulkImportJob|Error {
+        BulkImportJob job = new;
+        check self.startBulkImport(request, job);
+        return job;
+    }
+
+    private isolated function openQueryIterator(QueryIteratorRequest request, EntityIterator iterator)
+    returns Error? = @java:Method {
+        'class: "io.ballerina.lib.milvus.Client"
+    } external;
+
+    private isolated function openSearchIterator(SearchIteratorRequest request, SearchResultIterator iterator)
+    returns Error? = @java:Method {
+        'class: "io.ballerina.lib.milvus.Client"
+    } external;
+
+    private isolated function startBulkImport(BulkImportRequest request, BulkImportJob job)
+    returns Error? = @java:Method {
+        'class: "io.ballerina.lib.milvus.Client"
+    } external;
 }
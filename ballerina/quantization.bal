@@ -0,0 +1,44 @@
+// Copyright (c) 2025 WSO2 LLC (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Quantizes a float vector into the packed bytes of a binary, int8, float16 or bfloat16 vector, which take 32, 4
+# and 2 times less space than the float vector. Unless a `scale` is given, an int8 vector is scaled by a factor of
+# its own, so a query searched against int8 vectors must be quantized with the same `scale` as the stored vectors,
+# or the distances between them are skewed.
+#
+# + vector - The vector to quantize
+# + vectorType - The type of the vector field the vector is stored in or searched against
+# + options - The options of the quantization
+# + return - The packed bytes of the vector, otherwise an error if the vector cannot be quantized into the type
+public isolated function quantize(float[] vector, VectorType vectorType, *QuantizationOptions options)
+returns byte[]|Error = @java:Method {
+    'class: "io.ballerina.lib.milvus.Quantizer"
+} external;
+
+# Quantizes an array of float vectors into the packed bytes of binary, int8, float16 or bfloat16 vectors. Unless a
+# `scale` is given, the int8 vectors are all scaled by the same factor, so that the distances between them stay
+# comparable. As that factor is not returned, a corpus whose queries are quantized later should be given a `scale`.
+#
+# + vectors - The vectors to quantize
+# + vectorType - The type of the vector field the vectors are stored in or searched against
+# + options - The options of the quantization
+# + return - The packed bytes of each vector, otherwise an error if the vectors cannot be quantized into the type
+public isolated function quantizeAll(float[][] vectors, VectorType vectorType, *QuantizationOptions options)
+returns byte[][]|Error = @java:Method {
+    'class: "io.ballerina.lib.milvus.Quantizer"
+} external;
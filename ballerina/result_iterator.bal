@@ -0,0 +1,76 @@
+// Copyright (c) 2025 WSO2 LLC (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Iterates over the entities returned by a query iterator, one page at a time.
+isolated class EntityIterator {
+
+    # Gets the next entity of the stream.
+    #
+    # + return - The next entity, `()` once the entities are exhausted, or an error
+    public isolated function next() returns record {|map<anydata> value;|}|Error? {
+        map<anydata>|Error? entity = nextEntity(self);
+        if entity is map<anydata> {
+            return {value: entity};
+        }
+        return entity;
+    }
+
+    # Closes the iterator, releasing the resources held by it.
+    #
+    # + return - An error if the iterator could not be closed
+    public isolated function close() returns Error? {
+        return closeIterator(self);
+    }
+}
+
+# Iterates over the results returned by a search iterator, one page at a time.
+isolated class SearchResultIterator {
+
+    # Gets the next search result of the stream.
+    #
+    # + return - The next search result, `()` once the results are exhausted, or an error
+    public isolated function next() returns record {|SearchResult value;|}|Error? {
+        SearchResult|Error? result = nextSearchResult(self);
+        if result is SearchResult {
+            return {value: result};
+        }
+        return result;
+    }
+
+    # Closes the iterator, releasing the resources held by it.
+    #
+    # + return - An error if the iterator could not be closed
+    public isolated function close() returns Error? {
+        return closeIterator(self);
+    }
+}
+
+isolated function nextEntity(EntityIterator iterator) returns map<anydata>|Error? = @java:Method {
+    'class: "io.ballerina.lib.milvus.ResultIterator",
+    name: "next"
+} external;
+
+isolated function nextSearchResult(SearchResultIterator iterator) returns SearchResult|Error? = @java:Method {
+    'class: "io.ballerina.lib.milvus.ResultIterator",
+    name: "next"
+} external;
+
+isolated function closeIterator(EntityIterator|SearchResultIterator iterator) returns Error? = @java:Method {
+    'class: "io.ballerina.lib.milvus.ResultIterator",
+    name: "close"
+} external;
@@ -0,0 +1,68 @@
+// Copyright (c) 2025 WSO2 LLC (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+// A stand-in for the Milvus service, which answers the searches with canned results and can be made to fail or delay
+// them, so that the retries, hedging and deadlines of the client can be tested.
+const FAKE_COLLECTION = "benchmark_collection";
+
+final handle fakeServer = check startFakeServer(3);
+final string fakeServiceUrl = string `http://localhost:${getFakeServerPort(fakeServer)}`;
+// A server of its own for measuring the concurrent searches, which the slow searches left over by the other tests
+// cannot overlap with.
+final handle concurrencyFakeServer = check startFakeServer(3);
+final string concurrencyFakeServiceUrl = string `http://localhost:${getFakeServerPort(concurrencyFakeServer)}`;
+
+function startFakeServer(int dimension) returns handle|error = @java:Method {
+    'class: "io.ballerina.lib.milvus.testutils.FakeMilvusServer",
+    name: "start"
+} external;
+
+function getFakeServerPort(handle server) returns int = @java:Method {
+    'class: "io.ballerina.lib.milvus.testutils.FakeMilvusServer",
+    name: "getPort"
+} external;
+
+function failFakeSearches(handle server, int count) = @java:Method {
+    'class: "io.ballerina.lib.milvus.testutils.FakeMilvusServer",
+    name: "failSearches"
+} external;
+
+function rejectFakeSearches(handle server, int count) = @java:Method {
+    'class: "io.ballerina.lib.milvus.testutils.FakeMilvusServer",
+    name: "rejectSearches"
+} external;
+
+function delayFakeSearches(handle server, int count, int delay) = @java:Method {
+    'class: "io.ballerina.lib.milvus.testutils.FakeMilvusServer",
+    name: "delaySearches"
+} external;
+
+function getFakeSearchCount(handle server) returns int = @java:Method {
+    'class: "io.ballerina.lib.milvus.testutils.FakeMilvusServer",
+    name: "getSearchCount"
+} external;
+
+function getPeakConcurrentFakeSearches(handle server) returns int = @java:Method {
+    'class: "io.ballerina.lib.milvus.testutils.FakeMilvusServer",
+    name: "getPeakConcurrentSearches"
+} external;
+
+function resetPeakConcurrentFakeSearches(handle server) = @java:Method {
+    'class: "io.ballerina.lib.milvus.testutils.FakeMilvusServer",
+    name: "resetPeakConcurrentSearches"
+} external;
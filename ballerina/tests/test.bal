@@ -14,9 +14,25 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/lang.runtime;
 import ballerina/test;
 
 Client milvusClient = check new(serviceUrl = "http://localhost:19530");
+Client asyncMilvusClient = check new(serviceUrl = "http://localhost:19530", executionMode = ASYNC);
+Client pooledMilvusClient = check new(serviceUrl = "http://localhost:19530", executionMode = ASYNC,
+    poolConfig = {maxTotal: 4, maxTotalPerKey: 4});
+Client cachedMilvusClient = check new(serviceUrl = "http://localhost:19530", searchCache = {maxEntries: 10});
+Client resilientMilvusClient = check new(serviceUrl = "http://localhost:19530", executionMode = ASYNC,
+    retryConfig = {count: 2, interval: 10}, hedgingConfig = {percentile: 90.0}, callDeadline = 5000);
+Client batchingMilvusClient = check new(serviceUrl = "http://localhost:19530", executionMode = ASYNC,
+    searchBatching = {maxBatchSize: 4, maxDelay: 20});
+Client readReplicaMilvusClient = check new(serviceUrl = "http://localhost:19530",
+    readEndpoints = ["http://localhost:19530", "http://127.0.0.1:19530"]);
+Client retryingFakeClient = check new(serviceUrl = fakeServiceUrl, retryConfig = {count: 2, interval: 10});
+Client hedgingFakeClient = check new(serviceUrl = fakeServiceUrl, hedgingConfig = {percentile: 90.0},
+    callDeadline = 2000);
+Client deadlineFakeClient = check new(serviceUrl = fakeServiceUrl, callDeadline = 200);
+Client asyncFakeClient = check new(serviceUrl = concurrencyFakeServiceUrl, executionMode = ASYNC);
 
 string collectionName = "test_collections";
 int id  = 10001;
@@ -58,6 +74,35 @@ function testUpsertEntry() returns error? {
     });
 }
 
+@test:Config {
+    groups: ["upsert"],
+    dependsOn: [testCreateCollection]
+}
+function testUpsertBatch() returns error? {
+    UpsertData[] data = from int i in 20001 ..< 20011
+        select {id: i, vectors: [0.1, 0.2, 0.3], "content": string `batch entry ${i}`};
+    int upsertCount = check milvusClient->upsertBatch({
+        collectionName,
+        data,
+        batchSize: 4
+    });
+    test:assertEquals(upsertCount, 10);
+}
+
+@test:Config {
+    groups: ["upsert"],
+    dependsOn: [testCreateCollection]
+}
+function testUpsertBatchFromStream() returns error? {
+    UpsertData[] data = from int i in 30001 ..< 30006 select {id: i, vectors: [0.6, 0.7, 0.8]};
+    int upsertCount = check milvusClient->upsertBatch({
+        collectionName,
+        data: data.toStream(),
+        batchSize: 2
+    });
+    test:assertEquals(upsertCount, 5);
+}
+
 @test:Config {
     groups: ["delete"],
     dependsOn: [testSearchNearVectors]
@@ -111,3 +156,612 @@ function testSearchNearVectors() returns error? {
         test:assertEquals(result[0][0].id, id);
     }
 }
+
+@test:Config {
+    groups: ["query"],
+    dependsOn: [testSearchNearVectors]
+}
+function testSearchMultipleVectors() returns error? {
+    SearchResult[][] result = check milvusClient->search({
+        collectionName,
+        vectors: [[0.3, 0.4, 0.5], [0.5, 0.4, 0.3]],
+        topK: 3
+    });
+    test:assertEquals(result.length(), 2);
+    foreach SearchResult[] matches in result {
+        test:assertTrue(matches.length() <= 3);
+        foreach int i in 1 ..< matches.length() {
+            test:assertTrue(matches[i - 1].similarityScore >= matches[i].similarityScore);
+        }
+    }
+}
+
+@test:Config {
+    groups: ["query", "async"],
+    dependsOn: [testSearchNearVectors]
+}
+function testConcurrentAsyncSearches() returns error? {
+    future<SearchResult[][]|Error>[] searches = [];
+    foreach int i in 0 ..< 16 {
+        future<SearchResult[][]|Error> search = start asyncMilvusClient->search({
+            collectionName,
+            vectors: [0.3, 0.4, 0.5],
+            topK: 5
+        });
+        searches.push(search);
+    }
+    foreach future<SearchResult[][]|Error> search in searches {
+        SearchResult[][] result = check wait search;
+        test:assertEquals(result.length(), 1);
+    }
+}
+
+@test:Config {
+    groups: ["async"]
+}
+function testAsyncSearchesOverlap() returns error? {
+    // Each search is held by the server for a while, so the searches only overlap if they are not serialised.
+    resetPeakConcurrentFakeSearches(concurrencyFakeServer);
+    delayFakeSearches(concurrencyFakeServer, 8, 200);
+    future<SearchResult[][]|Error>[] searches = [];
+    foreach int i in 0 ..< 8 {
+        future<SearchResult[][]|Error> search = start asyncFakeClient->search({
+            collectionName: FAKE_COLLECTION,
+            vectors: [0.3, 0.4, 0.5],
+            topK: 5
+        });
+        searches.push(search);
+    }
+    foreach future<SearchResult[][]|Error> search in searches {
+        SearchResult[][] result = check wait search;
+        test:assertEquals(result[0].length(), 5);
+    }
+    test:assertTrue(getPeakConcurrentFakeSearches(concurrencyFakeServer) > 1);
+}
+
+@test:Config {
+    groups: ["query", "pool"],
+    dependsOn: [testSearchNearVectors]
+}
+function testPooledSearches() returns error? {
+    future<SearchResult[][]|Error>[] searches = [];
+    foreach int i in 0 ..< 8 {
+        future<SearchResult[][]|Error> search = start pooledMilvusClient->search({
+            collectionName,
+            vectors: [0.3, 0.4, 0.5],
+            topK: 5
+        });
+        searches.push(search);
+    }
+    foreach future<SearchResult[][]|Error> search in searches {
+        _ = check wait search;
+    }
+    PoolStatistics statistics = pooledMilvusClient.getPoolStatistics();
+    test:assertEquals(statistics.maxConnections, 4);
+    test:assertEquals(statistics.inFlightOperations, 0);
+    test:assertEquals(statistics.leaseCount, 8);
+    test:assertTrue(statistics.activeConnections + statistics.idleConnections <= 4);
+}
+
+@test:Config {
+    groups: ["query", "retry"],
+    dependsOn: [testSearchNearVectors]
+}
+function testResilientSearches() returns error? {
+    foreach int i in 0 ..< 40 {
+        SearchResult[][] result = check resilientMilvusClient->search({
+            collectionName,
+            vectors: [0.3, 0.4, 0.5],
+            topK: 5
+        });
+        test:assertEquals(result.length(), 1);
+    }
+}
+
+@test:Config {
+    groups: ["retry"]
+}
+function testRetriedSearches() returns error? {
+    int searchCount = getFakeSearchCount(fakeServer);
+    failFakeSearches(fakeServer, 2);
+    SearchResult[][] result = check retryingFakeClient->search({
+        collectionName: FAKE_COLLECTION,
+        vectors: [0.3, 0.4, 0.5],
+        topK: 5
+    });
+    test:assertEquals(result[0].length(), 5);
+    test:assertEquals(getFakeSearchCount(fakeServer) - searchCount, 3);
+
+    searchCount = getFakeSearchCount(fakeServer);
+    failFakeSearches(fakeServer, 3);
+    SearchResult[][]|Error exhausted = retryingFakeClient->search({
+        collectionName: FAKE_COLLECTION,
+        vectors: [0.3, 0.4, 0.5],
+        topK: 5
+    });
+    test:assertTrue(exhausted is Error);
+    test:assertEquals(getFakeSearchCount(fakeServer) - searchCount, 3);
+}
+
+@test:Config {
+    groups: ["retry"]
+}
+function testNonRetryableSearchErrors() {
+    int searchCount = getFakeSearchCount(fakeServer);
+    rejectFakeSearches(fakeServer, 1);
+    SearchResult[][]|Error result = retryingFakeClient->search({
+        collectionName: FAKE_COLLECTION,
+        vectors: [0.3, 0.4, 0.5],
+        topK: 5
+    });
+    test:assertTrue(result is Error);
+    test:assertEquals(getFakeSearchCount(fakeServer) - searchCount, 1);
+}
+
+@test:Config {
+    groups: ["retry"]
+}
+function testHedgedSearches() returns error? {
+    // The searches are only hedged once enough of them are made to know their latencies.
+    foreach int i in 0 ..< 40 {
+        _ = check hedgingFakeClient->search({collectionName: FAKE_COLLECTION, vectors: [0.3, 0.4, 0.5], topK: 5});
+    }
+    int searchCount = getFakeSearchCount(fakeServer);
+    // The first attempt outlasts the call deadline, so the search only succeeds if the hedged attempt wins.
+    delayFakeSearches(fakeServer, 1, 5000);
+    SearchResult[][] result = check hedgingFakeClient->search({
+        collectionName: FAKE_COLLECTION,
+        vectors: [0.3, 0.4, 0.5],
+        topK: 5
+    });
+    test:assertEquals(result[0].length(), 5);
+    test:assertEquals(getFakeSearchCount(fakeServer) - searchCount, 2);
+}
+
+@test:Config {
+    groups: ["retry"]
+}
+function testSearchDeadline() {
+    delayFakeSearches(fakeServer, 1, 2000);
+    SearchResult[][]|Error result = deadlineFakeClient->search({
+        collectionName: FAKE_COLLECTION,
+        vectors: [0.3, 0.4, 0.5],
+        topK: 5
+    });
+    if result is Error {
+        error? cause = result.cause();
+        test:assertTrue(cause is error && cause.toString().includes("DEADLINE_EXCEEDED"));
+    } else {
+        test:assertFail("Expected the search to exceed the call deadline");
+    }
+}
+
+@test:Config {
+    groups: ["query", "batching"],
+    dependsOn: [testSearchNearVectors]
+}
+function testBatchedSearches() returns error? {
+    future<SearchResult[][]|Error>[] searches = [];
+    foreach int i in 0 ..< 8 {
+        future<SearchResult[][]|Error> search = start batchingMilvusClient->search({
+            collectionName,
+            vectors: [0.1 * <float>i, 0.2, 0.3],
+            topK: 3
+        });
+        searches.push(search);
+    }
+    foreach int i in 0 ..< 8 {
+        SearchResult[][] batched = check wait searches[i];
+        SearchResult[][] expected = check milvusClient->search({
+            collectionName,
+            vectors: [0.1 * <float>i, 0.2, 0.3],
+            topK: 3
+        });
+        test:assertEquals(batched.length(), 1);
+        test:assertEquals(batched[0].map(result => result.id), expected[0].map(result => result.id));
+    }
+}
+
+@test:Config {
+    groups: ["query", "cache"],
+    dependsOn: [testSearchNearVectors]
+}
+function testCachedSearches() returns error? {
+    test:assertEquals(milvusClient.getSearchCacheStatistics(), ());
+    SearchRequest request = {
+        collectionName,
+        vectors: [0.3, 0.4, 0.5],
+        topK: 5
+    };
+    SearchResult[][] first = check cachedMilvusClient->search(request);
+    SearchResult[][] second = check cachedMilvusClient->search(request);
+    test:assertEquals(second, first);
+    SearchCacheStatistics? statistics = cachedMilvusClient.getSearchCacheStatistics();
+    test:assertTrue(statistics is SearchCacheStatistics);
+    if statistics is SearchCacheStatistics {
+        test:assertEquals(statistics.hits, 1);
+        test:assertEquals(statistics.misses, 1);
+        test:assertEquals(statistics.entries, 1);
+    }
+
+    check cachedMilvusClient->upsert({
+        collectionName,
+        data: {
+            id: 20001,
+            vectors: [0.3, 0.4, 0.5]
+        }
+    });
+    _ = check cachedMilvusClient->search(request);
+    statistics = cachedMilvusClient.getSearchCacheStatistics();
+    if statistics is SearchCacheStatistics {
+        test:assertEquals(statistics.invalidations, 1);
+        test:assertEquals(statistics.misses, 2);
+    }
+}
+
+@test:Config {
+    groups: ["schema"]
+}
+function testCreateCollectionWithSchema() returns error? {
+    string schemaCollection = "test_schema_collection";
+    check milvusClient->createCollection({
+        collectionName: schemaCollection,
+        fields: [
+            {name: "id", dataType: INT64, isPrimaryKey: true},
+            {name: "vector", dataType: FLOAT_VECTOR, dimension: 3},
+            {name: "category", dataType: VARCHAR, maxLength: 64}
+        ],
+        indexes: [
+            {fieldName: "vector", indexType: HNSW, metricType: COSINE, params: {M: 16, efConstruction: 64}},
+            {fieldName: "category", indexType: INVERTED}
+        ]
+    });
+    check milvusClient->upsert({
+        collectionName: schemaCollection,
+        data: {
+            id: 1,
+            vectors: [0.3, 0.4, 0.5],
+            "category": "docs"
+        }
+    });
+    SearchResult[][] result = check milvusClient->search({
+        collectionName: schemaCollection,
+        vectors: [0.3, 0.4, 0.5],
+        topK: 1,
+        filter: "category == \"docs\"",
+        metricType: COSINE,
+        searchParams: {ef: 16}
+    });
+    test:assertEquals(result.length(), 1);
+}
+
+@test:Config {
+    groups: ["query"],
+    dependsOn: [testSearchNearVectors]
+}
+function testQuery() returns error? {
+    map<anydata>[] entities = check milvusClient->query({
+        collectionName,
+        filter: string `${primaryKey} == ${id}`,
+        outputFields: [primaryKey, "chunk"]
+    });
+    test:assertEquals(entities.length(), 1);
+    test:assertEquals(entities[0][primaryKey], id);
+}
+
+@test:Config {
+    groups: ["query", "iterator"],
+    dependsOn: [testUpsertBatch]
+}
+function testQueryIterator() returns error? {
+    stream<map<anydata>, Error?> entities = check milvusClient->queryIterator({
+        collectionName,
+        filter: string `${primaryKey} >= 0`,
+        outputFields: [primaryKey],
+        pageSize: 2
+    });
+    int count = 0;
+    check from map<anydata> entity in entities
+        do {
+            test:assertTrue(entity.hasKey(primaryKey));
+            count += 1;
+        };
+    test:assertTrue(count >= 5);
+}
+
+@test:Config {
+    groups: ["query", "iterator"],
+    dependsOn: [testSearchNearVectors]
+}
+function testSearchIterator() returns error? {
+    stream<SearchResult, Error?> results = check milvusClient->searchIterator({
+        collectionName,
+        vector: [0.3, 0.4, 0.5],
+        'limit: 4,
+        pageSize: 2
+    });
+    SearchResult[] collected = check from SearchResult result in results select result;
+    test:assertTrue(collected.length() <= 4);
+    foreach int i in 1 ..< collected.length() {
+        test:assertTrue(collected[i - 1].similarityScore >= collected[i].similarityScore);
+    }
+}
+
+@test:Config {
+    groups: ["upsert", "bulk"],
+    dependsOn: [testCreateCollection]
+}
+function testBulkImport() returns error? {
+    BulkImportJob job = check milvusClient->bulkImport({
+        collectionName,
+        filePath: "tests/resources/bulk_import.jsonl",
+        batchSize: 2,
+        maxInFlight: 2
+    });
+    BulkImportResult result = check job.getResult();
+    test:assertEquals(result.totalRows, 5);
+    test:assertEquals(result.importedRows, 4);
+    test:assertEquals(result.failedRowOffsets, [3]);
+    test:assertTrue(job.getProgress().completed);
+}
+
+@test:Config {
+    groups: ["upsert", "bulk"],
+    dependsOn: [testCreateCollection]
+}
+function testBulkImportNpy() returns error? {
+    BulkImportJob job = check milvusClient->bulkImport({
+        collectionName,
+        filePath: "tests/resources/bulk_import.npy",
+        startId: 100,
+        batchSize: 3
+    });
+    BulkImportResult result = check job.getResult();
+    test:assertEquals(result.totalRows, 4);
+    test:assertEquals(result.importedRows, 4);
+    test:assertEquals(result.failedRowOffsets, []);
+
+    map<anydata>[] entities = check milvusClient->query({
+        collectionName,
+        ids: [100, 103],
+        outputFields: ["id", "vector"]
+    });
+    test:assertEquals(entities.length(), 2);
+}
+
+@test:Config {
+    groups: ["bulk"]
+}
+function testBulkImportTruncatedNpy() {
+    BulkImportJob|Error job = milvusClient->bulkImport({
+        collectionName,
+        filePath: "tests/resources/bulk_import_truncated.npy"
+    });
+    test:assertTrue(job is Error);
+}
+
+@test:Config {
+    groups: ["bulk"]
+}
+function testBulkImportToFiles() returns error? {
+    BulkImportJob job = check milvusClient->bulkImport({
+        collectionName,
+        filePath: "tests/resources/bulk_import.jsonl",
+        batchSize: 2,
+        outputDirectory: "target/bulk_import"
+    });
+    BulkImportResult result = check job.getResult();
+    test:assertEquals(result.importedRows, 4);
+    test:assertEquals(result.files.length(), 3);
+}
+
+@test:Config {
+    groups: ["schema"]
+}
+function testVarcharPrimaryKey() {
+    Error? result = milvusClient->createCollection({
+        collectionName: "test_varchar_key_collection",
+        fields: [
+            {name: "id", dataType: VARCHAR, isPrimaryKey: true, maxLength: 64},
+            {name: "vector", dataType: FLOAT_VECTOR, dimension: 3}
+        ]
+    });
+    test:assertTrue(result is Error);
+}
+
+@test:Config {
+    groups: ["upsert", "hybrid"],
+    dependsOn: [testCreateCollection]
+}
+function testReservedSparseVectorField() {
+    Error? result = milvusClient->upsert({
+        collectionName,
+        data: {id: 30001, vectors: [0.1, 0.2, 0.3], "sparse_vector": "not a sparse vector"}
+    });
+    test:assertTrue(result is Error);
+}
+
+@test:Config {
+    groups: ["search", "hybrid"]
+}
+function testHybridSearch() returns error? {
+    string hybridCollection = "test_hybrid_collection";
+    check milvusClient->createCollection({
+        collectionName: hybridCollection,
+        fields: [
+            {name: "id", dataType: INT64, isPrimaryKey: true},
+            {name: "vector", dataType: FLOAT_VECTOR, dimension: 3},
+            {name: "sparse_vector", dataType: SPARSE_FLOAT_VECTOR}
+        ],
+        indexes: [
+            {fieldName: "vector", indexType: HNSW, metricType: COSINE, params: {M: 16, efConstruction: 64}},
+            {fieldName: "sparse_vector", indexType: SPARSE_INVERTED_INDEX, metricType: IP}
+        ]
+    });
+    UpsertData[] data = from int i in 1 ... 4
+        select {id: i, vectors: [0.1 * <float>i, 0.2, 0.3], sparseVector: {indices: [i, 100], values: [0.5, 0.1]}};
+    _ = check milvusClient->upsertBatch({collectionName: hybridCollection, data});
+
+    SearchResult[][] sparseResults = check milvusClient->search({
+        collectionName: hybridCollection,
+        vectors: {indices: [2], values: [1.0]},
+        topK: 1,
+        annsField: "sparse_vector",
+        metricType: IP
+    });
+    test:assertEquals(sparseResults[0][0].id, 2);
+
+    foreach Ranker ranker in [<RrfRanker>{}, <WeightedRanker>{weights: [0.2, 0.8]}] {
+        SearchResult[][] results = check milvusClient->hybridSearch({
+            collectionName: hybridCollection,
+            searches: [
+                {annsField: "vector", vectors: [0.2, 0.2, 0.3], metricType: COSINE, topK: 4},
+                {annsField: "sparse_vector", vectors: {indices: [2], values: [1.0]}, metricType: IP, topK: 4}
+            ],
+            ranker,
+            topK: 2
+        });
+        test:assertEquals(results.length(), 1);
+        test:assertEquals(results[0][0].id, 2);
+    }
+}
+
+@test:Config {
+    groups: ["upsert", "query"],
+    dependsOn: [testCreateCollection]
+}
+function testUpsertDecimalAndNestedFields() returns error? {
+    check milvusClient->upsert({
+        collectionName,
+        data: {
+            id: 50001,
+            vectors: [0.2, 0.3, 0.4],
+            "price": 12.5d,
+            "chunk": {"metadata": {"tags": ["a", "b"], "score": 0.75d}}
+        }
+    });
+    map<anydata>[] entities = check milvusClient->query({
+        collectionName,
+        ids: [50001],
+        outputFields: ["price", "chunk"]
+    });
+    test:assertEquals(entities.length(), 1);
+    test:assertEquals(entities[0]["price"].toString(), "12.5");
+    map<anydata> chunk = check entities[0]["chunk"].ensureType();
+    map<anydata> metadata = check chunk["metadata"].ensureType();
+    test:assertEquals(metadata["score"].toString(), "0.75");
+    test:assertEquals(metadata["tags"], ["a", "b"]);
+}
+
+@test:Config {
+    groups: ["search", "partition"]
+}
+function testPartitionKeyRouting() returns error? {
+    string partitionedCollection = "test_partitioned_collection";
+    check milvusClient->createCollection({
+        collectionName: partitionedCollection,
+        databaseName: "default",
+        fields: [
+            {name: "id", dataType: INT64, isPrimaryKey: true},
+            {name: "vector", dataType: FLOAT_VECTOR, dimension: 3},
+            {name: "tenant", dataType: VARCHAR, maxLength: 32, isPartitionKey: true}
+        ],
+        indexes: [{fieldName: "vector", indexType: FLAT, metricType: L2}],
+        numPartitions: 4
+    });
+    UpsertData[] data = from int i in 1 ... 6
+        select {id: i, vectors: [0.1, 0.2, 0.1 * <float>i], "tenant": i % 2 == 0 ? "even" : "odd"};
+    _ = check milvusClient->upsertBatch({collectionName: partitionedCollection, databaseName: "default", data});
+    check milvusClient->loadCollection(partitionedCollection, "default");
+
+    SearchResult[][] results = check readReplicaMilvusClient->search({
+        collectionName: partitionedCollection,
+        databaseName: "default",
+        vectors: [0.1, 0.2, 0.3],
+        topK: 3,
+        filter: "tenant == \"even\"",
+        outputFields: ["tenant"]
+    });
+    test:assertEquals(results[0].length(), 3);
+    foreach SearchResult result in results[0] {
+        test:assertEquals(result.id % 2, 0);
+    }
+    map<anydata>[] entities = check readReplicaMilvusClient->query({
+        collectionName: partitionedCollection,
+        databaseName: "default",
+        filter: "tenant == \"odd\"",
+        outputFields: ["tenant"]
+    });
+    test:assertEquals(entities.length(), 3);
+}
+
+@test:Config {
+    groups: ["search", "partition"],
+    dependsOn: [testSearchNearVectors]
+}
+function testSearchDefaultPartition() returns error? {
+    SearchResult[][] results = check milvusClient->search({
+        collectionName,
+        partitionNames: ["_default"],
+        vectors: [0.3, 0.4, 0.5],
+        topK: 1
+    });
+    test:assertEquals(results[0][0].id, id);
+}
+
+@test:Config {
+    groups: ["search", "quantization"]
+}
+function testBinaryVectorSearch() returns error? {
+    test:assertEquals(check quantize([0.5, -0.5, 0.1, 0.0, 1.0, -1.0, 0.2, 0.3], BINARY_VECTOR), <byte[]>[0xAB]);
+    test:assertEquals(check quantize([1.0, -0.5, 0.25], INT8_VECTOR), <byte[]>[127, 193, 32]);
+    test:assertTrue(quantize([0.1, 0.2], SPARSE_FLOAT_VECTOR) is Error);
+
+    string binaryCollection = "test_binary_collection";
+    check milvusClient->createCollection({
+        collectionName: binaryCollection,
+        fields: [
+            {name: "id", dataType: INT64, isPrimaryKey: true},
+            {name: "vector", dataType: BINARY_VECTOR, dimension: 16}
+        ],
+        indexes: [{fieldName: "vector", indexType: BIN_FLAT, metricType: HAMMING}]
+    });
+    float[][] embeddings = from int i in 1 ... 4
+        select from int j in 0 ..< 16 select j < 4 * i ? 1.0 : -1.0;
+    byte[][] vectors = check quantizeAll(embeddings, BINARY_VECTOR);
+    UpsertData[] data = from int i in 0 ..< vectors.length() select {id: i + 1, vectors: vectors[i]};
+    _ = check milvusClient->upsertBatch({collectionName: binaryCollection, data, vectorType: BINARY_VECTOR});
+
+    SearchResult[][] results = check milvusClient->search({
+        collectionName: binaryCollection,
+        vectors: vectors[2],
+        topK: 2,
+        vectorType: BINARY_VECTOR,
+        metricType: HAMMING
+    });
+    test:assertEquals(results[0][0].id, 3);
+}
+
+@test:Config {
+    groups: ["client", "warmup"],
+    dependsOn: [testSearchNearVectors]
+}
+function testLazyConnectAndWarmup() returns error? {
+    Client warmedMilvusClient = check new(serviceUrl = "http://localhost:19530", lazyConnect = true,
+        keepAliveTime = 30, warmup = [{collectionName, progressInterval: 100}]);
+    Readiness readiness = warmedMilvusClient.getReadiness();
+    foreach int _ in 0 ..< 100 {
+        if readiness.ready || readiness.collections[0].state == FAILED {
+            break;
+        }
+        runtime:sleep(0.1);
+        readiness = warmedMilvusClient.getReadiness();
+    }
+    test:assertTrue(readiness.ready, readiness.toString());
+    test:assertEquals(readiness.collections[0].state, READY);
+
+    Client lazyMilvusClient = check new(serviceUrl = "http://localhost:19530", lazyConnect = true);
+    test:assertTrue(lazyMilvusClient.getReadiness().ready);
+    test:assertEquals(lazyMilvusClient.getPoolStatistics().idleConnections, 0);
+    test:assertTrue((check lazyMilvusClient->listCollections()).indexOf(collectionName) !is ());
+}
@@ -19,7 +19,8 @@
 # + authConfig - The auth configurations for the Milvus connection
 # + credentialsConfig - The credentials for the Milvus connection
 # + idleTimeout - The idle timeout for a connection
-# + keepAliveTime - The time between keep-alive probes sent by the client to the server. (Default: 55 seconds)
+# + keepAliveTime - The time in seconds between keep-alive probes sent by the client to the server, which keeps the
+# idle channels from being torn down by the proxies in between. (Default: 55 seconds)
 # + keepAliveTimeout - The timeout duration for the server to respond to a keep-alive probe sent by the client. (Default: 20 seconds)
 # + keepAliveWithoutCalls - Whether to send keep-alive probes without making requests. (Default: false)
 # + rpcDeadline - The deadline for the rpc operation to be completed. The value defaults to 0, which indicates the deadline is disabled
@@ -27,7 +28,27 @@
 # + databaseName - The name of the database to which the target Milvus instance belongs
 # + serverName - The expected name of the server
 # + proxyAddress - The proxy server’s address through which the connection is to be established
-# + secureConfig - The secure configurations for the Milvus connection
+# + secureConfig - The secure configurations for the Milvus connection. When set, the connections use TLS
+# + executionMode - The mode in which the client executes the Milvus operations. (Default: BLOCKING)
+# + asyncWorkers - The number of dedicated threads that run the Milvus operations in the `ASYNC` mode.
+# When not set, each operation runs on the virtual thread of the calling strand after it yields
+# + poolConfig - The configurations for pooling the connections to Milvus. When not set, all the operations share
+# a single connection
+# + searchCache - The configurations for caching the search results in the client. When not set, every search is
+# sent to Milvus
+# + searchBatching - The configurations for batching the concurrent single-vector searches of the client into
+# multi-vector searches. When not set, every search is sent to Milvus on its own
+# + retryConfig - The configurations for retrying the idempotent operations that fail with a transient error. When set,
+# these retries replace the default retries of the Milvus SDK
+# + hedgingConfig - The configurations for hedging the slow searches with a second attempt
+# + callDeadline - The time in milliseconds an operation can take across all its attempts before it fails with a
+# `DEADLINE_EXCEEDED` error. When not set, the operations have no overall deadline
+# + readEndpoints - The URLs of the replicas or read proxies the searches and queries are sent to in turn, apart from
+# the writes, which are sent to the service URL. The reads may not see the latest writes until they are replicated
+# + lazyConnect - Whether the connection to Milvus is opened on the first operation rather than when the client is
+# initialized. The pooled connections are always opened as they are first used. (Default: false)
+# + warmup - The collections warmed up in the background once the client is initialized, so that the first searches
+# do not wait on a cold collection. The progress of the warmup is reported by the `getReadiness` method
 public type ConnectionConfig record {
     AuthConfig authConfig?;
     CredentialsConfig credentialsConfig?;
@@ -41,8 +62,199 @@ public type ConnectionConfig record {
     string serverName?;
     string proxyAddress?;
     SecureConfig secureConfig?;
+    ExecutionMode executionMode = BLOCKING;
+    int asyncWorkers?;
+    PoolConfig poolConfig?;
+    SearchCacheConfig searchCache?;
+    SearchBatchingConfig searchBatching?;
+    RetryConfig retryConfig?;
+    HedgingConfig hedgingConfig?;
+    int callDeadline?;
+    string[] readEndpoints?;
+    boolean lazyConnect = false;
+    WarmupConfig[] warmup?;
 };
 
+# Represents the warmup of a collection. The collection is loaded and, once the load completes, a search for a
+# synthetic vector is sent through each connection the searches use.
+#
+# + collectionName - The name of the collection to warm up
+# + databaseName - The name of the database of the collection. When not set, the database of the client is used
+# + loadTimeout - The time in seconds the load of the collection can take
+# + progressInterval - The time in milliseconds between the checks of the load state of the collection. When set,
+# the load is started without waiting for it, and its state is checked instead until the collection is loaded. The
+# loads in another database than the one of the client are always checked this way
+# + search - Whether the synthetic search is sent once the collection is loaded
+# + annsField - The name of the vector field searched. When not set, the first vector field of the collection is used
+public type WarmupConfig record {|
+    string collectionName;
+    string databaseName?;
+    int loadTimeout = 300;
+    int progressInterval?;
+    boolean search = true;
+    string annsField?;
+|};
+
+# Represents the readiness of a client.
+#
+# + ready - Whether all the collections of the warmup are warmed up, which is always the case without a warmup
+# + collections - The warmup states of the collections
+public type Readiness record {|
+    boolean ready;
+    CollectionReadiness[] collections;
+|};
+
+# Represents the warmup state of a collection.
+#
+# + collectionName - The name of the collection
+# + state - The state of the warmup of the collection
+# + message - The reason the warmup failed, when it failed
+public type CollectionReadiness record {|
+    string collectionName;
+    WarmupState state;
+    string message?;
+|};
+
+# Represents the states of the warmup of a collection.
+public enum WarmupState {
+    # The warmup has not started yet
+    PENDING,
+    # The collection is being loaded
+    LOADING,
+    # The synthetic search is being sent
+    SEARCHING,
+    # The collection is loaded and searched
+    READY,
+    # The warmup failed, and the collection may still be cold
+    FAILED
+}
+
+# Represents the configurations for retrying the operations that fail with a transient error. Only the idempotent
+# operations, which are `search`, `hybridSearch`, `query`, `upsert`, `upsertBatch`, `loadCollection` and
+# `listCollections`, are retried. The wait between the retries grows exponentially, and is randomized so that the
+# clients do not retry in lockstep. With `searchBatching`, a batched search that fails is retried on its own, and may
+# join a new batch.
+#
+# + count - The maximum number of retries of an operation
+# + interval - The time in milliseconds waited before the first retry
+# + backOffFactor - The factor by which the wait grows after each retry
+# + maxWaitInterval - The maximum time in milliseconds waited between two retries
+# + statusCodes - The gRPC status codes of the errors that are retried. The rate limits of Milvus are retried as
+# `RESOURCE_EXHAUSTED` errors
+public type RetryConfig record {
+    int count = 3;
+    int interval = 100;
+    float backOffFactor = 2.0;
+    int maxWaitInterval = 2000;
+    string[] statusCodes = ["UNAVAILABLE", "RESOURCE_EXHAUSTED"];
+};
+
+# Represents the configurations for hedging the searches. A search that takes longer than the given percentile of
+# the latencies of the recent searches is sent again, and the first of the two to succeed is returned. Hedging
+# starts once enough searches have been made to know their latencies.
+#
+# + percentile - The percentile of the recent search latencies after which a search is hedged
+# + minDelay - The minimum time in milliseconds waited before a search is hedged
+public type HedgingConfig record {
+    float percentile = 95.0;
+    int minDelay = 10;
+};
+
+# Represents the configurations for batching the concurrent single-vector searches of the client. Searches that share
+# the collection, partitions, filter, topK and every other search option are sent to Milvus together as a single
+# multi-vector search, and each search gets its own results. A search with more than one vector or with a sparse
+# vector is never batched. The `retryConfig`, `hedgingConfig` and `callDeadline` of the client still apply to each
+# batched search, so a retried or hedged search joins a batch of its own, and the call deadline includes the time
+# spent waiting for the batch to fill.
+#
+# + maxBatchSize - The maximum number of searches sent to Milvus in a single batch
+# + maxDelay - The maximum time in milliseconds the first search of a batch waits for other searches to join it
+# before the batch is sent. This bounds the latency added to a search by batching
+public type SearchBatchingConfig record {
+    int maxBatchSize = 16;
+    int maxDelay = 2;
+};
+
+# Represents the configurations for caching the search results in the client. The cached results of a collection
+# are invalidated by the `upsert`, `upsertBatch` and `delete` operations made through the same client, but not by
+# writes made through other clients. The searches with sparse vectors are not cached.
+#
+# + maxEntries - The maximum number of searches cached
+# + maxWeight - The maximum number of search hits held across all the cached searches
+# + ttl - The time in seconds a cached search is served for
+# + vectorPrecision - The number of decimal places the search vectors are rounded to when matched against the cached
+# searches, so that near-identical vectors share the cached results
+public type SearchCacheConfig record {
+    int maxEntries = 1000;
+    int maxWeight = 100000;
+    int ttl = 60;
+    int vectorPrecision = 6;
+};
+
+# Represents the statistics of the search result cache of the client.
+#
+# + entries - The number of searches currently cached
+# + weight - The number of search hits currently held in the cache
+# + hits - The number of searches served from the cache
+# + misses - The number of searches sent to Milvus as they were not cached
+# + evictions - The number of cached searches dropped as they expired or exceeded the cache bounds
+# + invalidations - The number of cached searches dropped due to writes to their collections
+public type SearchCacheStatistics record {|
+    int entries;
+    int weight;
+    int hits;
+    int misses;
+    int evictions;
+    int invalidations;
+|};
+
+# Represents the configurations for pooling the connections to Milvus.
+#
+# + maxTotal - The maximum number of connections in the pool
+# + maxTotalPerKey - The maximum number of connections per database
+# + maxIdlePerKey - The maximum number of idle connections kept per database
+# + minIdlePerKey - The minimum number of idle connections kept per database
+# + minEvictableIdleTime - The time in seconds a connection can stay idle before it becomes eligible for eviction
+# + evictionInterval - The interval in seconds between the runs of the idle connection evictor
+# + acquireTimeout - The time in seconds an operation waits for a connection when the pool is exhausted
+public type PoolConfig record {
+    int maxTotal = 50;
+    int maxTotalPerKey = 10;
+    int maxIdlePerKey = 5;
+    int minIdlePerKey = 0;
+    int minEvictableIdleTime = 10;
+    int evictionInterval = 60;
+    int acquireTimeout = 5;
+};
+
+# Represents the statistics of the connections used by the client.
+#
+# + activeConnections - The number of connections currently leased by the operations
+# + idleConnections - The number of connections idling in the pool
+# + maxConnections - The maximum number of connections the client can open
+# + inFlightOperations - The number of operations currently in flight
+# + leaseCount - The total number of connection leases made by the operations
+# + acquireTimeoutCount - The number of operations that failed as no connection became available in time
+# + averageAcquireTime - The average time in milliseconds the operations waited for a connection
+public type PoolStatistics record {|
+    int activeConnections;
+    int idleConnections;
+    int maxConnections;
+    int inFlightOperations;
+    int leaseCount;
+    int acquireTimeoutCount;
+    float averageAcquireTime;
+|};
+
+# Represents the modes in which the client executes the Milvus operations.
+public enum ExecutionMode {
+    # Runs the Milvus operations on the calling strand
+    BLOCKING,
+    # Yields the calling strand while the Milvus operations are in flight, so that concurrent operations
+    # do not hold up the scheduler
+    ASYNC
+}
+
 # Represents the secure configurations for the Milvus connection.
 #
 # + clientKeyPath - The path to the client key file for mutual authentication
@@ -75,28 +287,73 @@ public type CredentialsConfig record {
 # Represents the request for the upsert operation.
 #
 # + collectionName - The name of the collection to upsert data into
-# + partitionName - The name of the partition to upsert data into
+# + partitionName - The name of the partition to upsert data into, which must not be set when the collection has a
+# partition key, as the entries are then routed to the partitions by their key
 # + databaseName - The name of the database to upsert data into
 # + data - The data to upsert into the Milvus collection
+# + vectorType - The type of the vector field of the collection, which decides how the vectors are encoded
 public type UpsertRequest record {
     string collectionName;
     string partitionName?;
     string databaseName?;
-    record {
-        int id;
-        float[] vectors;
-    } data;
+    UpsertData data;
+    VectorType vectorType = FLOAT_VECTOR;
+};
+
+# Represents an entry to be upserted into a Milvus collection.
+#
+# + id - The id of the entry
+# + vectors - The vector embedding of the entry, either as floats or as the packed bytes of a binary, int8, float16
+# or bfloat16 vector, such as the ones returned by `quantize`. The float16 and bfloat16 vectors can be given as
+# either, while the binary and int8 vectors must be packed
+# + sparseVector - The sparse vector embedding of the entry, such as a BM25 or SPLADE embedding, which is stored in
+# the `sparse_vector` field of the collection. Hence no other field of the entry can be named `sparse_vector`
+public type UpsertData record {
+    int id;
+    float[]|byte[] vectors;
+    SparseVector sparseVector?;
+};
+
+# Represents a sparse vector by its non-zero dimensions.
+#
+# + indices - The indices of the non-zero dimensions
+# + values - The values of the non-zero dimensions, in the order of the `indices`
+public type SparseVector record {|
+    int[] indices;
+    float[] values;
+|};
+
+# Represents the request for the batched upsert operation.
+#
+# + collectionName - The name of the collection to upsert data into
+# + partitionName - The name of the partition to upsert data into, which must not be set when the collection has a
+# partition key, as the entries are then routed to the partitions by their key
+# + databaseName - The name of the database to upsert data into
+# + data - The entries to upsert into the Milvus collection, either as an array or as a stream
+# + batchSize - The maximum number of entries sent in a single upsert call
+# + maxBatchBytes - The approximate maximum size of the entries, in bytes, sent in a single upsert call
+# + vectorType - The type of the vector field of the collection, which decides how the vectors are encoded
+public type UpsertBatchRequest record {
+    string collectionName;
+    string partitionName?;
+    string databaseName?;
+    UpsertData[]|stream<UpsertData, error?> data;
+    int batchSize = 1000;
+    int maxBatchBytes = 4194304;
+    VectorType vectorType = FLOAT_VECTOR;
 };
 
 # Represents the request for the delete operation.
 #
 # + collectionName - The name of the collection to delete data from
 # + partitionName - The name of the partition to delete data from
+# + databaseName - The name of the database of the collection. When not set, the database of the client is used
 # + ids - An array of ids of the entries to delete
 # + filter - The filter to delete data from the Milvus collection
 public type DeleteRequest record {
     string collectionName;
     string partitionName?;
+    string databaseName?;
     int[] ids?;
     string filter?;
 };
@@ -105,19 +362,215 @@ public type DeleteRequest record {
 #
 # + collectionName - The name of the collection to search data from
 # + partitionName - The name of the partition to search data from
-# + vectors - The vectors to search for
+# + partitionNames - The names of the partitions to search data from, along with the `partitionName`. When neither is
+# set, the whole collection is searched
+# + databaseName - The name of the database of the collection. When not set, the database of the client is used
+# + vectors - The dense or sparse vectors to search for. The dense vectors are given either as floats or as the
+# packed bytes of their vector type
 # + topK - The number of results to return
 # + filter - The filter to search for
 # + outputFields - The fields to return
+# + vectorType - The type of the vector field searched, which decides how the vectors are encoded
+# + annsField - The name of the vector field to search, when the collection has more than one vector field
+# + metricType - The metric used to measure the similarity, which must match the metric of the index
+# + searchParams - The parameters of the index used for the search
 public type SearchRequest record {
     string collectionName;
     string partitionName?;
-    float[][]|float[] vectors;
+    string[] partitionNames?;
+    string databaseName?;
+    float[][]|float[]|byte[][]|byte[]|SparseVector[]|SparseVector vectors;
     int topK;
     string filter?;
-    string outputFields?;
+    string[] outputFields?;
+    VectorType vectorType = FLOAT_VECTOR;
+    string annsField?;
+    MetricType metricType?;
+    SearchParams searchParams?;
+};
+
+# Represents the request for the query operation. Either a `filter`, the `ids` or a `limit` must be given.
+#
+# + collectionName - The name of the collection to query data from
+# + partitionName - The name of the partition to query data from
+# + partitionNames - The names of the partitions to query data from, along with the `partitionName`. When neither is
+# set, the whole collection is queried
+# + databaseName - The name of the database of the collection. When not set, the database of the client is used
+# + filter - The filter the entities must match
+# + ids - The ids of the entities to query
+# + outputFields - The fields to return
+# + limit - The maximum number of entities to return
+# + offset - The number of matching entities to skip
+public type QueryRequest record {
+    string collectionName;
+    string partitionName?;
+    string[] partitionNames?;
+    string databaseName?;
+    string filter?;
+    int[] ids?;
+    string[] outputFields?;
+    int 'limit?;
+    int offset?;
+};
+
+# Represents the request for the query iterator operation.
+#
+# + collectionName - The name of the collection to query data from
+# + partitionName - The name of the partition to query data from
+# + partitionNames - The names of the partitions to query data from, along with the `partitionName`. When neither is
+# set, the whole collection is queried
+# + databaseName - The name of the database of the collection. When not set, the database of the client is used
+# + filter - The filter the entities must match
+# + outputFields - The fields to return
+# + limit - The maximum number of entities to return. When not set, all the matching entities are returned
+# + pageSize - The number of entities fetched from Milvus at a time
+public type QueryIteratorRequest record {
+    string collectionName;
+    string partitionName?;
+    string[] partitionNames?;
+    string databaseName?;
+    string filter?;
+    string[] outputFields?;
+    int 'limit?;
+    int pageSize = 1000;
+};
+
+# Represents the request for the search iterator operation.
+#
+# + collectionName - The name of the collection to search data from
+# + partitionName - The name of the partition to search data from
+# + partitionNames - The names of the partitions to search data from, along with the `partitionName`. When neither is
+# set, the whole collection is searched
+# + databaseName - The name of the database of the collection. When not set, the database of the client is used
+# + vector - The vector to search for, either as floats or as the packed bytes of its vector type
+# + filter - The filter the results must match
+# + outputFields - The fields to return
+# + limit - The maximum number of results to return. When not set, all the results are returned
+# + pageSize - The number of results fetched from Milvus at a time
+# + vectorType - The type of the vector field searched, which decides how the vector is encoded
+# + annsField - The name of the vector field to search, when the collection has more than one vector field
+# + metricType - The metric used to measure the similarity, which must match the metric of the index
+# + searchParams - The parameters of the index used for the search
+public type SearchIteratorRequest record {
+    string collectionName;
+    string partitionName?;
+    string[] partitionNames?;
+    string databaseName?;
+    float[]|byte[] vector;
+    string filter?;
+    string[] outputFields?;
+    int 'limit?;
+    int pageSize = 1000;
+    VectorType vectorType = FLOAT_VECTOR;
+    string annsField?;
+    MetricType metricType?;
+    SearchParams searchParams?;
 };
 
+# Represents the parameters of the index used by a search. Any other parameter supported by the index, such as
+# `search_list` of `DISKANN`, can be given as an additional field.
+#
+# + ef - The size of the dynamic candidate list of an `HNSW` index. Larger values improve the recall at the cost
+# of the latency, and must not be smaller than the `topK`
+# + nprobe - The number of clusters of an `IVF` index to search. Larger values improve the recall at the cost of
+# the latency
+public type SearchParams record {
+    int ef?;
+    int nprobe?;
+};
+
+# Represents the types of the vector fields the vectors are encoded for.
+public enum VectorType {
+    # 32-bit floating point vectors
+    FLOAT_VECTOR,
+    # 16-bit half precision floating point vectors
+    FLOAT16_VECTOR,
+    # 16-bit brain floating point vectors
+    BFLOAT16_VECTOR,
+    # Binary vectors of a bit per dimension, given as packed bytes with the first dimension in the most
+    # significant bit, and compared with the `HAMMING` or `JACCARD` metric
+    BINARY_VECTOR,
+    # 8-bit signed integer vectors, given as packed bytes of the two's complement of each dimension
+    INT8_VECTOR,
+    # Sparse vectors of 32-bit floating point values, given as `SparseVector` values
+    SPARSE_FLOAT_VECTOR
+}
+
+# Represents the options of the quantization of the float vectors.
+#
+# + threshold - The value above which the bit of a dimension of a binary vector is set. The default keeps the sign
+# of each dimension
+# + scale - The factor the dimensions of an int8 vector are multiplied by before they are rounded. When not set, the
+# vectors are scaled so that their largest absolute dimension is 127. The queries must use the scale of the vectors
+# they are searched against
+public type QuantizationOptions record {|
+    float threshold = 0.0;
+    float scale?;
+|};
+
+# Represents the request for the hybrid search operation. The searches are run on different vector fields of the
+# collection in a single call, and their results are fused into one ranking by the ranker.
+#
+# + collectionName - The name of the collection to search data from
+# + partitionName - The name of the partition to search data from
+# + partitionNames - The names of the partitions to search data from, along with the `partitionName`. When neither is
+# set, the whole collection is searched
+# + databaseName - The name of the database of the collection. When not set, the database of the client is used
+# + searches - The searches to run, each on a vector field of the collection
+# + ranker - The ranker that fuses the results of the searches
+# + topK - The number of results to return
+# + outputFields - The fields to return
+public type HybridSearchRequest record {
+    string collectionName;
+    string partitionName?;
+    string[] partitionNames?;
+    string databaseName?;
+    AnnSearch[] searches;
+    Ranker ranker = <RrfRanker>{};
+    int topK;
+    string[] outputFields?;
+};
+
+# Represents a search on a vector field of the collection, as part of a hybrid search. The searches of a hybrid
+# search must all have the same number of vectors.
+#
+# + annsField - The name of the vector field to search
+# + vectors - The dense or sparse vectors to search for. The dense vectors are given either as floats or as the
+# packed bytes of their vector type
+# + topK - The number of candidates the search passes on to the ranker. When not set, the `topK` of the hybrid
+# search is used
+# + filter - The filter the candidates must match
+# + vectorType - The type of the vector field searched, which decides how the dense vectors are encoded
+# + metricType - The metric used to measure the similarity, which must match the metric of the index
+# + searchParams - The parameters of the index used for the search
+public type AnnSearch record {
+    string annsField;
+    float[][]|float[]|byte[][]|byte[]|SparseVector[]|SparseVector vectors;
+    int topK?;
+    string filter?;
+    VectorType vectorType = FLOAT_VECTOR;
+    MetricType metricType?;
+    SearchParams searchParams?;
+};
+
+# Represents the rankers that fuse the results of the searches of a hybrid search.
+public type Ranker RrfRanker|WeightedRanker;
+
+# Represents the reciprocal rank fusion ranker, which scores a result by its ranks in the searches, regardless of
+# the scales of their similarity scores.
+#
+# + k - The smoothing constant added to the ranks, where larger values flatten the differences between the ranks
+public type RrfRanker record {|
+    int k = 60;
+|};
+
+# Represents the weighted ranker, which scores a result by the weighted sum of its normalized similarity scores.
+#
+# + weights - The weights of the searches, in the order of the searches, each between 0 and 1
+public type WeightedRanker record {|
+    float[] weights;
+|};
+
 # Represents the result of the search operation.
 #
 # + primaryKey - The name of the primary key of the result
@@ -131,22 +584,308 @@ public type SearchResult record {|
     record{} outputFields?;
 |};
 
-# Represents the request for the create collection operation.
+# Represents the request for the bulk import operation. The rows of the file are upserted into the collection, or,
+# when `outputDirectory` is given, written as the JSON files of the Milvus bulk insert.
+#
+# + collectionName - The name of the collection to import the rows into
+# + partitionName - The name of the partition to import the rows into
+# + databaseName - The name of the database of the collection. When not set, the database of the client is used
+# + filePath - The path of the file to import
+# + format - The format of the file. When not set, the format is inferred from the extension of the file
+# + startId - The id of the first vector of a `NPY` file, from which the rest of the vectors are given consecutive ids
+# + batchSize - The number of rows in each chunk of the file that is converted and upserted at a time
+# + maxInFlight - The maximum number of chunks being converted or upserted at a time, after which the file is not
+# read any further until a chunk is done
+# + parallelism - The number of threads converting the chunks. When not set, a thread per processor is used
+# + outputDirectory - The directory the Milvus import files are written to, instead of upserting the rows
+# + vectorType - The type of the vector field of the collection. The float16 and bfloat16 vectors are read as floats,
+# while the binary and int8 vectors of a JSON lines file are read as their packed bytes
+public type BulkImportRequest record {
+    string collectionName;
+    string partitionName?;
+    string databaseName?;
+    string filePath;
+    ImportFileFormat format?;
+    int startId = 0;
+    int batchSize = 1000;
+    int maxInFlight = 4;
+    int parallelism?;
+    string outputDirectory?;
+    VectorType vectorType = FLOAT_VECTOR;
+};
+
+# Represents the formats of the files imported by the bulk import operation.
+public enum ImportFileFormat {
+    # JSON lines, with an entry per line in the shape of the `UpsertData`
+    JSONL,
+    # NumPy arrays of 32-bit or 64-bit floating point vectors, with a vector per row
+    NPY
+}
+
+# Represents the progress of a bulk import.
+#
+# + readRows - The number of rows read from the file so far
+# + importedRows - The number of rows upserted or written so far
+# + failedRows - The number of rows that failed so far
+# + completed - Whether the import is completed
+public type BulkImportProgress record {|
+    int readRows;
+    int importedRows;
+    int failedRows;
+    boolean completed;
+|};
+
+# Represents the result of a completed bulk import.
+#
+# + totalRows - The number of rows read from the file
+# + importedRows - The number of rows upserted or written
+# + failedRowOffsets - The offsets of the failed rows, which are the line numbers of a `JSONL` file or the indexes of
+# the vectors of a `NPY` file, counted from zero
+# + files - The Milvus import files written, when `outputDirectory` is given
+public type BulkImportResult record {|
+    int totalRows;
+    int importedRows;
+    int[] failedRowOffsets;
+    string[] files;
+|};
+
+# Represents the request for the create collection operation. A collection is either created from the `dimension`
+# alone, with an `id` primary key and a `vector` field that is indexed and loaded right away, or from the given
+# `fields`.
 #
 # + collectionName - The name of the collection to create
-# + dimension - The dimension of the collection
+# + databaseName - The name of the database to create the collection in. When not set, the database of the client is
+# used
+# + dimension - The dimension of the vector field of a collection created without `fields`
+# + metricType - The metric of the index of a collection created without `fields`
+# + fields - The schema of the fields of the collection
+# + indexes - The indexes to create on a collection created with `fields`. When given, the collection is also loaded
+# + enableDynamicField - Whether the collection accepts the fields not declared in its schema
+# + description - The description of the collection
+# + numPartitions - The number of partitions the entities are hashed into by the partition key field of the collection
 public type CreateCollectionRequest record {
     string collectionName;
-    int dimension;
+    string databaseName?;
+    int dimension?;
+    MetricType metricType?;
+    FieldSchema[] fields?;
+    IndexDefinition[] indexes?;
+    boolean enableDynamicField = true;
+    string description?;
+    int numPartitions?;
+};
+
+# Represents the schema of a field of a collection.
+#
+# + name - The name of the field
+# + dataType - The data type of the field
+# + isPrimaryKey - Whether the field is the primary key of the collection, which must be an `INT64` field
+# + autoId - Whether the values of the primary key are generated by Milvus
+# + dimension - The dimension of a vector field
+# + maxLength - The maximum length of a `VARCHAR` field
+# + elementType - The type of the elements of an `ARRAY` field
+# + maxCapacity - The maximum number of elements of an `ARRAY` field
+# + isNullable - Whether the field accepts null values
+# + isPartitionKey - Whether the field is the partition key of the collection, by which Milvus routes the entities
+# to the partitions and prunes the partitions searched with a filter on the field
+# + description - The description of the field
+public type FieldSchema record {
+    string name;
+    DataType dataType;
+    boolean isPrimaryKey = false;
+    boolean autoId = false;
+    int dimension?;
+    int maxLength?;
+    ScalarType elementType?;
+    int maxCapacity?;
+    boolean isNullable = false;
+    boolean isPartitionKey = false;
+    string description?;
 };
 
+# Represents the data types of the fields of a collection.
+public type DataType ScalarType|VectorType;
+
+# Represents the types of the scalar fields of a collection.
+public enum ScalarType {
+    # Boolean values
+    BOOL,
+    # 8-bit signed integers
+    INT8,
+    # 16-bit signed integers
+    INT16,
+    # 32-bit signed integers
+    INT32,
+    # 64-bit signed integers
+    INT64,
+    # 32-bit floating point numbers
+    FLOAT,
+    # 64-bit floating point numbers
+    DOUBLE,
+    # Variable length strings, bounded by the `maxLength` of the field
+    VARCHAR,
+    # JSON values
+    JSON,
+    # Arrays of scalar values, bounded by the `maxCapacity` of the field
+    ARRAY
+}
+
 # Represents the request for the create index operation.
 #
 # + collectionName - The name of the collection to create an index for
-# + primaryKey - The name of the primary key of the collection
-# + fieldNames - The names of the fields to create an index for
+# + databaseName - The name of the database of the collection. When not set, the database of the client is used
+# + primaryKey - The name of the primary key of the collection, which is given an `AUTOINDEX`
+# + fieldNames - The names of the fields to create an index with the default parameters for
+# + indexes - The indexes to create, with their types and parameters
 public type CreateIndexRequest record {
     string collectionName;
-    string primaryKey;
-    string[] fieldNames;
+    string databaseName?;
+    string primaryKey?;
+    string[] fieldNames?;
+    IndexDefinition[] indexes?;
 };
+
+# Represents an index on a field of a collection.
+#
+# + fieldName - The name of the field to index
+# + indexName - The name of the index
+# + indexType - The type of the index
+# + metricType - The metric used to measure the similarity of the vectors of a vector index
+# + params - The build parameters of the index
+public type IndexDefinition record {
+    string fieldName;
+    string indexName?;
+    IndexType indexType = AUTOINDEX;
+    MetricType metricType?;
+    IndexParams params?;
+};
+
+# Represents the types of the indexes.
+public enum IndexType {
+    # Lets Milvus choose the index and its parameters
+    AUTOINDEX,
+    # Exhaustive search without an index structure
+    FLAT,
+    # Inverted file index over the clustered vectors
+    IVF_FLAT,
+    # Inverted file index with scalar quantized vectors
+    IVF_SQ8,
+    # Inverted file index with product quantized vectors
+    IVF_PQ,
+    # Hierarchical navigable small world graph
+    HNSW,
+    # Hierarchical navigable small world graph with scalar quantized vectors
+    HNSW_SQ,
+    # Hierarchical navigable small world graph with product quantized vectors
+    HNSW_PQ,
+    # Disk based graph index for the collections that do not fit in memory
+    DISKANN,
+    # Inverted file index with anisotropic vector quantization
+    SCANN,
+    # Exhaustive search over binary vectors
+    BIN_FLAT,
+    # Inverted file index over binary vectors
+    BIN_IVF_FLAT,
+    # Inverted index over sparse vectors
+    SPARSE_INVERTED_INDEX,
+    # Inverted index over sparse vectors, searched with the weak-AND algorithm
+    SPARSE_WAND,
+    # Sorted index on numeric scalar fields
+    STL_SORT,
+    # Prefix tree index on `VARCHAR` fields
+    TRIE,
+    # Inverted index on scalar fields
+    INVERTED,
+    # Bitmap index on low cardinality scalar fields
+    BITMAP
+}
+
+# Represents the metrics used to measure the similarity of the vectors.
+public enum MetricType {
+    # Euclidean distance
+    L2,
+    # Inner product
+    IP,
+    # Cosine similarity
+    COSINE,
+    # Hamming distance of binary vectors
+    HAMMING,
+    # Jaccard distance of binary vectors
+    JACCARD
+}
+
+# Represents the build parameters of the indexes.
+public type IndexParams HnswParams|HnswSqParams|HnswPqParams|IvfParams|IvfPqParams|DiskAnnParams|ScannParams;
+
+# Represents the build parameters of an `HNSW` index.
+#
+# + M - The maximum number of neighbours of each node in the graph
+# + efConstruction - The size of the candidate list while building the graph
+public type HnswParams record {|
+    int M;
+    int efConstruction;
+|};
+
+# Represents the build parameters of an `IVF_FLAT` or `IVF_SQ8` index.
+#
+# + nlist - The number of clusters the vectors are partitioned into
+public type IvfParams record {|
+    int nlist;
+|};
+
+# Represents the build parameters of an `IVF_PQ` index.
+#
+# + nlist - The number of clusters the vectors are partitioned into
+# + m - The number of sub-vectors each vector is split into for the product quantization
+# + nbits - The number of bits each sub-vector is quantized into
+public type IvfPqParams record {|
+    int nlist;
+    int m;
+    int nbits = 8;
+|};
+
+# Represents the build parameters of an `HNSW_SQ` index.
+#
+# + M - The maximum number of neighbours of each node in the graph
+# + efConstruction - The size of the candidate list while building the graph
+# + sqType - The type the dimensions of the vectors are quantized into
+public type HnswSqParams record {|
+    int M;
+    int efConstruction;
+    ScalarQuantizationType sqType;
+|};
+
+# Represents the types the dimensions of the vectors of an `HNSW_SQ` index are quantized into.
+public type ScalarQuantizationType "SQ6"|"SQ8"|"BF16"|"FP16";
+
+# Represents the build parameters of an `HNSW_PQ` index.
+#
+# + M - The maximum number of neighbours of each node in the graph
+# + efConstruction - The size of the candidate list while building the graph
+# + m - The number of sub-vectors each vector is split into for the product quantization
+# + nbits - The number of bits each sub-vector is quantized into
+public type HnswPqParams record {|
+    int M;
+    int efConstruction;
+    int m;
+    int nbits = 8;
+|};
+
+# Represents the build parameters of a `DISKANN` index. The parameters that are not set are taken from the
+# configuration of Milvus.
+#
+# + maxDegree - The maximum number of neighbours of each node in the graph
+# + searchListSize - The size of the candidate list while building the graph
+public type DiskAnnParams record {|
+    int maxDegree?;
+    int searchListSize?;
+|};
+
+# Represents the build parameters of a `SCANN` index.
+#
+# + nlist - The number of clusters the vectors are partitioned into
+# + withRawData - Whether the raw vectors are kept alongside the quantized vectors, to refine the results
+public type ScannParams record {|
+    int nlist;
+    boolean withRawData;
+|};
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.lib.milvus;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Random;
+
+/**
+ * Builds the Ballerina values passed to the native layer by the benchmarks. The values are generated from a fixed
+ * seed so that every run measures the same data.
+ */
+final class BenchmarkData {
+    static final String NO_DYNAMIC_FIELDS = "none";
+    static final String FLAT_DYNAMIC_FIELDS = "flat";
+    static final String NESTED_DYNAMIC_FIELDS = "nested";
+
+    private final Random random = new Random(42);
+
+    double[] vector(int dimension) {
+        double[] vector = new double[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = random.nextFloat();
+        }
+        return vector;
+    }
+
+    BArray vectors(int count, int dimension) {
+        if (count == 1) {
+            return ValueCreator.createArrayValue(vector(dimension));
+        }
+        Object[] vectors = new Object[count];
+        for (int i = 0; i < count; i++) {
+            vectors[i] = ValueCreator.createArrayValue(vector(dimension));
+        }
+        return ValueCreator.createArrayValue(vectors,
+                TypeCreator.createArrayType(TypeCreator.createArrayType(PredefinedTypes.TYPE_FLOAT)));
+    }
+
+    BMap<BString, Object> entry(long id, int dimension, String dynamicFields) {
+        BMap<BString, Object> entry = ValueCreator.createMapValue();
+        entry.put(Client.ID, id);
+        entry.put(Client.VECTORS, ValueCreator.createArrayValue(vector(dimension)));
+        switch (dynamicFields) {
+            case FLAT_DYNAMIC_FIELDS -> {
+                entry.put(StringUtils.fromString("title"), StringUtils.fromString("Document " + id));
+                entry.put(StringUtils.fromString("page"), id % 100);
+                entry.put(StringUtils.fromString("score"), random.nextDouble());
+                entry.put(StringUtils.fromString("published"), id % 2 == 0);
+            }
+            case NESTED_DYNAMIC_FIELDS -> {
+                BMap<BString, Object> metadata = ValueCreator.createMapValue();
+                metadata.put(StringUtils.fromString("createdTime"), StringUtils.fromString("1723600000"));
+                metadata.put(StringUtils.fromString("tags"), ValueCreator.createArrayValue(new BString[]{
+                        StringUtils.fromString("benchmark"), StringUtils.fromString("milvus")}));
+                BMap<BString, Object> chunk = ValueCreator.createMapValue();
+                chunk.put(StringUtils.fromString("content"), StringUtils.fromString("Content of chunk " + id));
+                chunk.put(StringUtils.fromString("type"), StringUtils.fromString("text"));
+                chunk.put(StringUtils.fromString("metadata"), metadata);
+                entry.put(StringUtils.fromString("chunk"), chunk);
+            }
+            default -> {
+            }
+        }
+        return entry;
+    }
+}
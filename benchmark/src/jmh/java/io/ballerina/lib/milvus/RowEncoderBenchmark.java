@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.lib.milvus;
+
+import com.google.gson.JsonObject;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the cost of encoding a single upsert entry, including its dynamic fields, into the JSON row sent to the
+ * Milvus SDK, and of estimating its size for the batch byte bound.
+ */
+@State(Scope.Benchmark)
+public class RowEncoderBenchmark {
+
+    @Param({"128", "768", "1536"})
+    private int dimension;
+
+    @Param({BenchmarkData.NO_DYNAMIC_FIELDS, BenchmarkData.FLAT_DYNAMIC_FIELDS, BenchmarkData.NESTED_DYNAMIC_FIELDS})
+    private String dynamicFields;
+
+    private BMap<BString, Object> entry;
+
+    @Setup
+    public void setup() {
+        entry = new BenchmarkData().entry(1, dimension, dynamicFields);
+    }
+
+    @Benchmark
+    public JsonObject encodeRow() {
+        return RowEncoder.encode(entry, VectorEncoder.FLOAT_VECTOR);
+    }
+
+    @Benchmark
+    public long estimateRowSize() {
+        return RowEncoder.estimateSize(entry);
+    }
+}
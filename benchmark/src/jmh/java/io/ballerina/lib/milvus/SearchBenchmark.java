@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.lib.milvus;
+
+import io.ballerina.lib.milvus.testutils.FakeMilvusServer;
+import io.ballerina.runtime.api.values.BArray;
+import io.milvus.v2.client.MilvusClientV2;
+import io.milvus.v2.service.vector.request.SearchReq;
+import io.milvus.v2.service.vector.request.data.BaseVector;
+import io.milvus.v2.service.vector.response.SearchResp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Measures a search, from encoding the Ballerina query vectors to the round trip to the fake Milvus server and the
+ * parsing of its results by the SDK, along with the vector encoding on its own.
+ */
+@State(Scope.Benchmark)
+public class SearchBenchmark {
+
+    @Param({"128", "768", "1536"})
+    private int dimension;
+
+    @Param({"10", "100"})
+    private int topK;
+
+    @Param({"1", "10"})
+    private int queries;
+
+    private FakeMilvusServer server;
+    private MilvusClientV2 client;
+    private BArray vectors;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        server = FakeMilvusServer.start(dimension);
+        client = server.newClient();
+        vectors = new BenchmarkData().vectors(queries, dimension);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        client.close();
+        server.close();
+    }
+
+    @Benchmark
+    public List<BaseVector> encodeVectors() {
+        return VectorEncoder.encodeAll(vectors, VectorEncoder.FLOAT_VECTOR);
+    }
+
+    @Benchmark
+    public List<List<SearchResp.SearchResult>> search() {
+        return client.search(SearchReq.builder()
+                .collectionName(FakeMilvusServer.COLLECTION_NAME)
+                .data(VectorEncoder.encodeAll(vectors, VectorEncoder.FLOAT_VECTOR))
+                .topK(topK)
+                .build()).getSearchResults();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.lib.milvus;
+
+import com.google.gson.JsonObject;
+import io.ballerina.lib.milvus.testutils.FakeMilvusServer;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.milvus.v2.client.MilvusClientV2;
+import io.milvus.v2.service.vector.request.UpsertReq;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures an upsert of a batch of entries, from encoding the Ballerina entries into rows to the round trip to the
+ * fake Milvus server, the same way {@code Client.upsertBatch} sends a chunk.
+ */
+@State(Scope.Benchmark)
+public class UpsertBenchmark {
+
+    @Param({"128", "768"})
+    private int dimension;
+
+    @Param({"1", "100", "1000"})
+    private int batchSize;
+
+    @Param({BenchmarkData.NO_DYNAMIC_FIELDS, BenchmarkData.NESTED_DYNAMIC_FIELDS})
+    private String dynamicFields;
+
+    private FakeMilvusServer server;
+    private MilvusClientV2 client;
+    private List<BMap<BString, Object>> entries;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        server = FakeMilvusServer.start(dimension);
+        client = server.newClient();
+        BenchmarkData data = new BenchmarkData();
+        entries = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            entries.add(data.entry(i, dimension, dynamicFields));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        client.close();
+        server.close();
+    }
+
+    @Benchmark
+    public long upsertBatch() {
+        List<JsonObject> rows = new ArrayList<>(entries.size());
+        for (BMap<BString, Object> entry : entries) {
+            rows.add(RowEncoder.encode(entry, VectorEncoder.FLOAT_VECTOR));
+        }
+        return client.upsert(UpsertReq.builder()
+                .collectionName(FakeMilvusServer.COLLECTION_NAME)
+                .data(rows)
+                .build()).getUpsertCnt();
+    }
+}
@@ -0,0 +1,580 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.milvus;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.milvus.v2.service.vector.request.UpsertReq;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.LongStream;
+
+import static io.ballerina.lib.milvus.Client.BATCH_SIZE;
+import static io.ballerina.lib.milvus.Client.CACHE;
+import static io.ballerina.lib.milvus.Client.COLLECTION_NAME;
+import static io.ballerina.lib.milvus.Client.DATABASE_NAME;
+import static io.ballerina.lib.milvus.Client.EXECUTOR;
+import static io.ballerina.lib.milvus.Client.ID_FIELD;
+import static io.ballerina.lib.milvus.Client.NATIVE_CLIENT;
+import static io.ballerina.lib.milvus.Client.PARTITION_NAME;
+import static io.ballerina.lib.milvus.Client.VECTOR;
+import static io.ballerina.lib.milvus.RetryPolicy.Mode.RETRY;
+import static io.ballerina.lib.milvus.Utils.createError;
+
+/**
+ * Imports the entries of a local file into a collection as a pipeline that runs apart from the calling strand. A
+ * single reader streams the file in chunks, the chunks are converted into rows in parallel, and the rows of each chunk
+ * are either upserted into the collection or written as a Milvus import file. The chunks are upserted under the retry
+ * policy of the client, so a file can be imported again after a partial failure without duplicating its rows. A chunk
+ * that cannot be converted or written counts all its rows as failed. The reader stops once the maximum
+ * number of chunks are in flight, so that a slow Milvus holds back the reading instead of filling up the memory.
+ * <p>
+ * The JSON lines files hold an entry per line, in the same shape as the upsert entries, and the NumPy files hold a
+ * two dimensional array of vectors, which are given consecutive ids. A row is identified by its offset in the file,
+ * which is the line number of a JSON lines entry or the index of a NumPy vector, counted from zero.
+ */
+public final class BulkImporter {
+    public static final BString FILE_PATH = StringUtils.fromString("filePath");
+    public static final BString FORMAT = StringUtils.fromString("format");
+    public static final BString START_ID = StringUtils.fromString("startId");
+    public static final BString MAX_IN_FLIGHT = StringUtils.fromString("maxInFlight");
+    public static final BString PARALLELISM = StringUtils.fromString("parallelism");
+    public static final BString OUTPUT_DIRECTORY = StringUtils.fromString("outputDirectory");
+    private static final String JSONL = "JSONL";
+    private static final String NPY = "NPY";
+    private static final String NATIVE_JOB = "job";
+    private static final String BULK_IMPORT_PROGRESS = "BulkImportProgress";
+    private static final String BULK_IMPORT_RESULT = "BulkImportResult";
+    private static final String CONVERTER_THREAD_PREFIX = "milvus-bulk-import-converter-";
+    private static final String IMPORT_FILE_ROWS = "rows";
+    private static final String UPSERT_ERROR = "Failed to upsert the rows of the file";
+    private static final Gson GSON = new Gson();
+
+    private final ClientProvider provider;
+    private final ClientExecutor executor;
+    private final SearchCache cache;
+    private final BString collectionName;
+    private final String partitionName;
+    private final String databaseName;
+    private final RowSource source;
+    private final int batchSize;
+    private final int maxInFlight;
+    private final Path outputDirectory;
+    private final Semaphore inFlight;
+    private final ExecutorService converters;
+    private final ExecutorService writers = Executors.newVirtualThreadPerTaskExecutor();
+    private final LongAdder readRows = new LongAdder();
+    private final LongAdder importedRows = new LongAdder();
+    private final List<Long> failedRowOffsets = new ArrayList<>();
+    private final List<String> files = new ArrayList<>();
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    private BulkImporter(BObject clientObject, BMap<String, Object> request, RowSource source, int batchSize,
+                         int maxInFlight, int parallelism, Path outputDirectory) {
+        this.provider = (ClientProvider) clientObject.getNativeData(NATIVE_CLIENT);
+        this.executor = (ClientExecutor) clientObject.getNativeData(EXECUTOR);
+        this.cache = (SearchCache) clientObject.getNativeData(CACHE);
+        this.collectionName = request.getStringValue(COLLECTION_NAME);
+        BString partition = request.getStringValue(PARTITION_NAME);
+        this.partitionName = partition != null ? partition.getValue() : null;
+        BString database = request.getStringValue(DATABASE_NAME);
+        this.databaseName = database != null ? database.getValue() : null;
+        this.source = source;
+        this.batchSize = batchSize;
+        this.maxInFlight = maxInFlight;
+        this.outputDirectory = outputDirectory;
+        this.inFlight = new Semaphore(maxInFlight);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.converters = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, CONVERTER_THREAD_PREFIX + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    static Object start(BObject clientObject, BMap<String, Object> request, BObject jobObject) {
+        RowSource source = null;
+        try {
+            long batchSize = request.getIntValue(BATCH_SIZE);
+            long maxInFlight = request.getIntValue(MAX_IN_FLIGHT);
+            Long parallelism = request.getIntValue(PARALLELISM);
+            long converterCount = parallelism != null ? parallelism : Runtime.getRuntime().availableProcessors();
+            if (batchSize <= 0 || maxInFlight <= 0 || converterCount <= 0 || batchSize > Integer.MAX_VALUE
+                    || maxInFlight > Integer.MAX_VALUE || converterCount > Integer.MAX_VALUE) {
+                return createError("Batch size, max in flight and parallelism must be positive ints", null);
+            }
+            Path filePath = Path.of(request.getStringValue(FILE_PATH).getValue());
+            BString outputDirectoryValue = request.getStringValue(OUTPUT_DIRECTORY);
+            Path outputDirectory = null;
+            if (outputDirectoryValue != null) {
+                outputDirectory = Path.of(outputDirectoryValue.getValue());
+                Files.createDirectories(outputDirectory);
+            }
+            source = openSource(filePath, request);
+            BulkImporter importer = new BulkImporter(clientObject, request, source, (int) batchSize,
+                    (int) maxInFlight, (int) converterCount, outputDirectory);
+            jobObject.addNativeData(NATIVE_JOB, importer);
+            Thread.ofVirtual().name("milvus-bulk-import").start(importer::run);
+            return null;
+        } catch (IOException | RuntimeException error) {
+            closeQuietly(source);
+            return createError("Failed to start the bulk import", error);
+        }
+    }
+
+    public static BMap<BString, Object> getProgress(BObject jobObject) {
+        BulkImporter importer = (BulkImporter) jobObject.getNativeData(NATIVE_JOB);
+        Map<String, Object> progress = new HashMap<>();
+        progress.put("readRows", importer.readRows.sum());
+        progress.put("importedRows", importer.importedRows.sum());
+        synchronized (importer) {
+            progress.put("failedRows", (long) importer.failedRowOffsets.size());
+        }
+        progress.put("completed", importer.completion.isDone());
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), BULK_IMPORT_PROGRESS, progress);
+    }
+
+    /**
+     * Waits for the import to complete, yielding the calling strand as the import can take a long time.
+     */
+    public static Object getResult(Environment env, BObject jobObject) {
+        BulkImporter importer = (BulkImporter) jobObject.getNativeData(NATIVE_JOB);
+        return env.yieldAndRun(importer::awaitResult);
+    }
+
+    private Object awaitResult() {
+        try {
+            completion.get();
+        } catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+            return createError("Interrupted while waiting for the bulk import", error);
+        } catch (ExecutionException error) {
+            return createError("Failed to import the file", error.getCause());
+        }
+        Map<String, Object> result = new HashMap<>();
+        result.put("totalRows", readRows.sum());
+        result.put("importedRows", importedRows.sum());
+        synchronized (this) {
+            result.put("failedRowOffsets", ValueCreator.createArrayValue(
+                    failedRowOffsets.stream().mapToLong(Long::longValue).sorted().toArray()));
+            result.put("files", ValueCreator.createArrayValue(
+                    files.stream().sorted().map(StringUtils::fromString).toArray(BString[]::new)));
+        }
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), BULK_IMPORT_RESULT, result);
+    }
+
+    private void run() {
+        Exception failure = null;
+        try {
+            int chunkIndex = 0;
+            Chunk chunk;
+            while ((chunk = source.next(batchSize)) != null) {
+                inFlight.acquire();
+                readRows.add(chunk.size());
+                Chunk readChunk = chunk;
+                int index = chunkIndex++;
+                CompletableFuture.supplyAsync(() -> readChunk.convert(this::rowFailed), converters)
+                        .thenAcceptAsync(batch -> write(index, batch), writers)
+                        .whenComplete((ignored, error) -> {
+                            // A chunk that fails to convert, such as one cut short by a truncated file, is not
+                            // written at all, so none of its rows are imported.
+                            if (error != null) {
+                                rowsFailed(readChunk.offsets());
+                            }
+                            inFlight.release();
+                        });
+            }
+        } catch (IOException | RuntimeException error) {
+            failure = error;
+        } catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+            failure = error;
+        } finally {
+            // Waits for the chunks in flight, whether or not the file was read to the end.
+            inFlight.acquireUninterruptibly(maxInFlight);
+            closeQuietly(source);
+            converters.shutdown();
+            writers.shutdown();
+        }
+        if (failure != null) {
+            completion.completeExceptionally(failure);
+        } else {
+            completion.complete(null);
+        }
+    }
+
+    private void write(int chunkIndex, Batch batch) {
+        if (batch.rows.isEmpty()) {
+            return;
+        }
+        boolean written;
+        try {
+            written = outputDirectory != null ? writeImportFile(chunkIndex, batch) : upsert(batch);
+        } catch (IOException | RuntimeException error) {
+            written = false;
+        }
+        if (!written) {
+            rowsFailed(batch.offsets);
+        }
+    }
+
+    private boolean upsert(Batch batch) {
+        UpsertReq.UpsertReqBuilder<?, ?> upsertReq = UpsertReq.builder()
+                .collectionName(collectionName.getValue())
+                .data(batch.rows);
+        upsertReq = (partitionName != null) ? upsertReq.partitionName(partitionName) : upsertReq;
+        upsertReq = (databaseName != null) ? upsertReq.databaseName(databaseName) : upsertReq;
+        UpsertReq upsertRequest = upsertReq.build();
+        Observation observation = Observation.start("bulkImport", collectionName);
+        Object result = executor.invoke(provider, observation, RETRY, UPSERT_ERROR, client -> {
+            try {
+                long upsertCount = observation.rpc(() -> client.upsert(upsertRequest)).getUpsertCnt();
+                observation.affectedRows(upsertCount);
+                return upsertCount;
+            } finally {
+                if (cache != null) {
+                    cache.invalidate(collectionName.getValue());
+                }
+            }
+        });
+        if (result instanceof Long upsertCount) {
+            importedRows.add(upsertCount);
+            return true;
+        }
+        return false;
+    }
+
+    // Writes the rows in the JSON row format of the Milvus bulk insert, one file per chunk.
+    private boolean writeImportFile(int chunkIndex, Batch batch) throws IOException {
+        JsonArray rows = new JsonArray(batch.rows.size());
+        batch.rows.forEach(rows::add);
+        JsonObject importFile = new JsonObject();
+        importFile.add(IMPORT_FILE_ROWS, rows);
+        Path file = outputDirectory.resolve(String.format("%s-%06d.json", collectionName.getValue(), chunkIndex));
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            GSON.toJson(importFile, writer);
+        }
+        importedRows.add(batch.rows.size());
+        synchronized (this) {
+            files.add(file.toString());
+        }
+        return true;
+    }
+
+    private synchronized void rowFailed(long offset) {
+        failedRowOffsets.add(offset);
+    }
+
+    private synchronized void rowsFailed(List<Long> offsets) {
+        failedRowOffsets.addAll(offsets);
+    }
+
+    private static RowSource openSource(Path filePath, BMap<String, Object> request) throws IOException {
+        BString format = request.getStringValue(FORMAT);
+        String fileFormat = format != null ? format.getValue() : inferFormat(filePath);
+        return switch (fileFormat) {
+            case JSONL -> new JsonLinesSource(Files.newBufferedReader(filePath, StandardCharsets.UTF_8),
+                    Client.getVectorType(request));
+            case NPY -> NpySource.open(filePath, request.getIntValue(START_ID), Client.getVectorType(request));
+            default -> throw new IllegalArgumentException("Unsupported file format: " + fileFormat);
+        };
+    }
+
+    private static String inferFormat(Path filePath) {
+        String fileName = filePath.getFileName().toString().toLowerCase();
+        if (fileName.endsWith(".jsonl") || fileName.endsWith(".ndjson") || fileName.endsWith(".json")) {
+            return JSONL;
+        }
+        if (fileName.endsWith(".npy")) {
+            return NPY;
+        }
+        throw new IllegalArgumentException("Cannot infer the format of the file: " + filePath);
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (IOException ignored) {
+            // The file was only read from, so there is nothing left to recover.
+        }
+    }
+
+    /**
+     * A file read in chunks of rows by a single reader.
+     */
+    private interface RowSource extends Closeable {
+        /**
+         * Reads the next chunk of at most the given number of rows, or returns null once the file is read.
+         */
+        Chunk next(int maxRows) throws IOException;
+    }
+
+    /**
+     * A chunk of rows read from a file, which is converted on one of the converter threads.
+     */
+    private interface Chunk {
+        int size();
+
+        /**
+         * Returns the offsets of the rows of the chunk in the file.
+         */
+        List<Long> offsets();
+
+        Batch convert(LongConsumer rowFailed);
+    }
+
+    /**
+     * The converted rows of a chunk, along with their offsets in the file.
+     */
+    private record Batch(List<JsonObject> rows, List<Long> offsets) {
+    }
+
+    private static final class JsonLinesSource implements RowSource {
+        private final BufferedReader reader;
+        private final String vectorType;
+        private long offset;
+
+        private JsonLinesSource(BufferedReader reader, String vectorType) {
+            this.reader = reader;
+            this.vectorType = vectorType;
+        }
+
+        @Override
+        public Chunk next(int maxRows) throws IOException {
+            List<String> lines = new ArrayList<>(maxRows);
+            List<Long> offsets = new ArrayList<>(maxRows);
+            String line;
+            while (lines.size() < maxRows && (line = reader.readLine()) != null) {
+                long lineOffset = offset++;
+                if (!line.isBlank()) {
+                    lines.add(line);
+                    offsets.add(lineOffset);
+                }
+            }
+            if (lines.isEmpty()) {
+                return null;
+            }
+            return new Chunk() {
+                @Override
+                public int size() {
+                    return lines.size();
+                }
+
+                @Override
+                public List<Long> offsets() {
+                    return offsets;
+                }
+
+                @Override
+                public Batch convert(LongConsumer rowFailed) {
+                    List<JsonObject> rows = new ArrayList<>(lines.size());
+                    List<Long> rowOffsets = new ArrayList<>(lines.size());
+                    for (int i = 0; i < lines.size(); i++) {
+                        try {
+                            JsonObject entry = JsonParser.parseString(lines.get(i)).getAsJsonObject();
+                            rows.add(RowEncoder.encode(entry, vectorType));
+                            rowOffsets.add(offsets.get(i));
+                        } catch (RuntimeException error) {
+                            rowFailed.accept(offsets.get(i));
+                        }
+                    }
+                    return new Batch(rows, rowOffsets);
+                }
+            };
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    /**
+     * Reads the vectors of a NumPy array file, mapping the file into memory a chunk at a time. Only the two
+     * dimensional arrays of 32-bit or 64-bit floats in the C order are supported, which are imported into the float,
+     * float16 or bfloat16 vector fields.
+     */
+    private static final class NpySource implements RowSource {
+        private static final byte[] MAGIC = {(byte) 0x93, 'N', 'U', 'M', 'P', 'Y'};
+        private static final Pattern DESCR = Pattern.compile("'descr':\\s*'([<>|=]?)f([48])'");
+        private static final Pattern FORTRAN_ORDER = Pattern.compile("'fortran_order':\\s*False");
+        private static final Pattern SHAPE = Pattern.compile("'shape':\\s*\\(\\s*(\\d+)\\s*,\\s*(\\d+)\\s*,?\\s*\\)");
+
+        private final FileChannel channel;
+        private final long dataOffset;
+        private final long rowCount;
+        private final int dimension;
+        private final int elementBytes;
+        private final ByteOrder order;
+        private final long startId;
+        private final String vectorType;
+        private long nextRow;
+
+        private NpySource(FileChannel channel, long dataOffset, long rowCount, int dimension, int elementBytes,
+                          ByteOrder order, long startId, String vectorType) {
+            this.channel = channel;
+            this.dataOffset = dataOffset;
+            this.rowCount = rowCount;
+            this.dimension = dimension;
+            this.elementBytes = elementBytes;
+            this.order = order;
+            this.startId = startId;
+            this.vectorType = vectorType;
+        }
+
+        static NpySource open(Path filePath, long startId, String vectorType) throws IOException {
+            if (VectorEncoder.requiresBytes(vectorType)) {
+                throw new IllegalArgumentException("NumPy files can only be imported into float vector fields");
+            }
+            FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ);
+            try {
+                ByteBuffer preamble = ByteBuffer.allocate(12).order(ByteOrder.LITTLE_ENDIAN);
+                channel.read(preamble, 0);
+                for (int i = 0; i < MAGIC.length; i++) {
+                    if (preamble.get(i) != MAGIC[i]) {
+                        throw new IllegalArgumentException("Not a NumPy array file: " + filePath);
+                    }
+                }
+                int majorVersion = preamble.get(6);
+                int headerStart = majorVersion == 1 ? 10 : 12;
+                int headerLength = majorVersion == 1 ? Short.toUnsignedInt(preamble.getShort(8)) : preamble.getInt(8);
+                ByteBuffer header = ByteBuffer.allocate(headerLength);
+                channel.read(header, headerStart);
+                String headerText = new String(header.array(), StandardCharsets.ISO_8859_1);
+                Matcher descr = DESCR.matcher(headerText);
+                Matcher shape = SHAPE.matcher(headerText);
+                if (!descr.find() || !shape.find() || !FORTRAN_ORDER.matcher(headerText).find()) {
+                    throw new IllegalArgumentException(
+                            "Only two dimensional float32 or float64 NumPy arrays in the C order are supported");
+                }
+                ByteOrder order = ">".equals(descr.group(1)) ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN;
+                long rowCount = Long.parseLong(shape.group(1));
+                int dimension = Integer.parseInt(shape.group(2));
+                int elementBytes = Integer.parseInt(descr.group(2));
+                long dataOffset = headerStart + headerLength;
+                if (channel.size() < dataOffset + rowCount * dimension * elementBytes) {
+                    throw new IllegalArgumentException("NumPy file is truncated: " + filePath);
+                }
+                return new NpySource(channel, dataOffset, rowCount, dimension, elementBytes, order, startId,
+                        vectorType);
+            } catch (IOException | RuntimeException error) {
+                channel.close();
+                throw error;
+            }
+        }
+
+        @Override
+        public Chunk next(int maxRows) throws IOException {
+            if (nextRow >= rowCount) {
+                return null;
+            }
+            long firstRow = nextRow;
+            int count = (int) Math.min(maxRows, rowCount - firstRow);
+            nextRow += count;
+            long rowBytes = (long) dimension * elementBytes;
+            ByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, dataOffset + firstRow * rowBytes,
+                    count * rowBytes).order(order);
+            return new Chunk() {
+                @Override
+                public int size() {
+                    return count;
+                }
+
+                @Override
+                public List<Long> offsets() {
+                    return LongStream.range(firstRow, firstRow + count).boxed().toList();
+                }
+
+                @Override
+                public Batch convert(LongConsumer rowFailed) {
+                    List<JsonObject> rows = new ArrayList<>(count);
+                    List<Long> offsets = new ArrayList<>(count);
+                    for (int i = 0; i < count; i++) {
+                        JsonObject row = new JsonObject();
+                        row.add(VECTOR, readVector(data));
+                        row.addProperty(ID_FIELD, startId + firstRow + i);
+                        rows.add(row);
+                        offsets.add(firstRow + i);
+                    }
+                    return new Batch(rows, offsets);
+                }
+            };
+        }
+
+        // The float vectors are kept as 32-bit floats when the file holds them, while the 16-bit vectors are packed.
+        private JsonArray readVector(ByteBuffer data) {
+            if (VectorEncoder.FLOAT_VECTOR.equals(vectorType)) {
+                JsonArray vector = new JsonArray(dimension);
+                for (int j = 0; j < dimension; j++) {
+                    if (elementBytes == Float.BYTES) {
+                        vector.add(data.getFloat());
+                    } else {
+                        vector.add(data.getDouble());
+                    }
+                }
+                return vector;
+            }
+            double[] vector = new double[dimension];
+            for (int j = 0; j < dimension; j++) {
+                vector[j] = elementBytes == Float.BYTES ? data.getFloat() : data.getDouble();
+            }
+            return RowEncoder.encodeVector(vector, vectorType);
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -18,13 +18,9 @@
 
 package io.ballerina.lib.milvus;
 
-import com.google.gson.Gson;
 import com.google.gson.JsonObject;
-import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.creators.ValueCreator;
-import io.ballerina.runtime.api.types.ArrayType;
-import io.ballerina.runtime.api.types.RecordType;
-import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
@@ -33,15 +29,23 @@ import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.milvus.v2.client.ConnectConfig;
 import io.milvus.v2.client.MilvusClientV2;
+import io.milvus.v2.client.RetryConfig;
 import io.milvus.v2.common.IndexParam;
 import io.milvus.v2.service.collection.request.CreateCollectionReq;
 import io.milvus.v2.service.collection.request.LoadCollectionReq;
 import io.milvus.v2.service.index.request.CreateIndexReq;
+import io.milvus.v2.service.vector.request.AnnSearchReq;
 import io.milvus.v2.service.vector.request.DeleteReq;
+import io.milvus.v2.service.vector.request.HybridSearchReq;
+import io.milvus.v2.service.vector.request.QueryIteratorReq;
+import io.milvus.v2.service.vector.request.QueryReq;
+import io.milvus.v2.service.vector.request.SearchIteratorReqV2;
 import io.milvus.v2.service.vector.request.SearchReq;
 import io.milvus.v2.service.vector.request.UpsertReq;
 import io.milvus.v2.service.vector.request.data.BaseVector;
-import io.milvus.v2.service.vector.request.data.FloatVec;
+import io.milvus.v2.service.vector.request.ranker.BaseRanker;
+import io.milvus.v2.service.vector.request.ranker.RRFRanker;
+import io.milvus.v2.service.vector.request.ranker.WeightedRanker;
 import io.milvus.v2.service.vector.response.DeleteResp;
 import io.milvus.v2.service.vector.response.SearchResp;
 
@@ -50,7 +54,20 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import static io.ballerina.lib.milvus.Utils.applyDynamicFields;
+import static io.ballerina.lib.milvus.ClientProvider.POOL_CONFIG;
+import static io.ballerina.lib.milvus.ReadRouter.READ_ENDPOINTS;
+import static io.ballerina.lib.milvus.ResultConverter.OUTPUT_FIELDS;
+import static io.ballerina.lib.milvus.RetryPolicy.Mode.NO_RETRY;
+import static io.ballerina.lib.milvus.RetryPolicy.Mode.RETRY;
+import static io.ballerina.lib.milvus.RetryPolicy.Mode.RETRY_AND_HEDGE;
+import static io.ballerina.lib.milvus.SchemaConverter.DESCRIPTION;
+import static io.ballerina.lib.milvus.SchemaConverter.ENABLE_DYNAMIC_FIELD;
+import static io.ballerina.lib.milvus.SchemaConverter.FIELDS;
+import static io.ballerina.lib.milvus.SchemaConverter.INDEXES;
+import static io.ballerina.lib.milvus.SchemaConverter.METRIC_TYPE;
+import static io.ballerina.lib.milvus.SchemaConverter.NUM_PARTITIONS;
+import static io.ballerina.lib.milvus.SearchCache.SEARCH_CACHE;
+import static io.ballerina.lib.milvus.SearchCoalescer.SEARCH_BATCHING;
 import static io.ballerina.lib.milvus.Utils.createError;
 
 public class Client {
@@ -61,16 +78,25 @@ public class Client {
     public static final BString DATABASE_NAME = StringUtils.fromString("databaseName");
     public static final BString BEARER_TOKEN = StringUtils.fromString("token");
     public static final String NATIVE_CLIENT = "client";
+    public static final String EXECUTOR = "executor";
+    public static final String CACHE = "cache";
+    public static final String COALESCER = "coalescer";
+    public static final String READ_ROUTER = "readRouter";
+    public static final String WARMUP = "warmup";
     public static final BString COLLECTION_NAME = StringUtils.fromString("collectionName");
     public static final BString DIMENSION = StringUtils.fromString("dimension");
     public static final BString FIELD_NAMES = StringUtils.fromString("fieldNames");
     public static final BString PRIMARY_KEY = StringUtils.fromString("primaryKey");
     public static final BString DATA = StringUtils.fromString("data");
-    public static final BString VECTORS = StringUtils.fromString("vectors");
+    public static final String VECTORS_FIELD = "vectors";
+    public static final BString VECTORS = StringUtils.fromString(VECTORS_FIELD);
     public static final String ID_FIELD = "id";
     public static final BString ID = StringUtils.fromString(ID_FIELD);
     public static final BString IDS = StringUtils.fromString("ids");
     public static final String VECTOR = "vector";
+    public static final String SPARSE_VECTOR_FIELD = "sparseVector";
+    public static final BString SPARSE_VECTOR = StringUtils.fromString(SPARSE_VECTOR_FIELD);
+    public static final String SPARSE_VECTOR_COLUMN = "sparse_vector";
     public static final BString PARTITION_NAME = StringUtils.fromString("partitionName");
     public static final BString FILTER = StringUtils.fromString("filter");
     public static final BString PARTITION_NAMES = StringUtils.fromString("partitionNames");
@@ -80,13 +106,32 @@ public class Client {
     public static final BString CONNECT_TIMEOUT = StringUtils.fromString("connectTimeout");
     public static final BString IDLE_TIMEOUT = StringUtils.fromString("idleTimeout");
     public static final BString RPC_DEADLINE = StringUtils.fromString("rpcDeadline");
+    public static final BString KEEP_ALIVE_TIME = StringUtils.fromString("keepAliveTime");
     public static final BString KEEP_ALIVE_TIMEOUT = StringUtils.fromString("keepAliveTimeout");
+    public static final BString SECURE_CONFIG = StringUtils.fromString("secureConfig");
+    public static final BString CLIENT_KEY_PATH = StringUtils.fromString("clientKeyPath");
+    public static final BString CLIENT_PEM_PATH = StringUtils.fromString("clientPemPath");
+    public static final BString SERVER_PEM_PATH = StringUtils.fromString("serverPemPath");
+    public static final BString CA_PEM_PATH = StringUtils.fromString("caPemPath");
     public static final BString SERVER_NAME = StringUtils.fromString("serverName");
     public static final BString PROXY_ADDRESS = StringUtils.fromString("proxyAddress");
     public static final BString KEEP_ALIVE_WITHOUT_CALLS = StringUtils.fromString("keepAliveWithoutCalls");
     public static final BString SEARCH_ID = StringUtils.fromString("id");
     public static final BString SIMILARITY_SCORE = StringUtils.fromString("similarityScore");
-    public static final BString ENTITY = StringUtils.fromString("entity");
+    public static final BString BATCH_SIZE = StringUtils.fromString("batchSize");
+    public static final BString MAX_BATCH_BYTES = StringUtils.fromString("maxBatchBytes");
+    public static final BString ANNS_FIELD = StringUtils.fromString("annsField");
+    public static final BString SEARCH_PARAMS = StringUtils.fromString("searchParams");
+    public static final BString LIMIT = StringUtils.fromString("limit");
+    public static final BString OFFSET = StringUtils.fromString("offset");
+    public static final BString PAGE_SIZE = StringUtils.fromString("pageSize");
+    public static final BString ITERATOR_VECTOR = StringUtils.fromString(VECTOR);
+    public static final BString SEARCHES = StringUtils.fromString("searches");
+    public static final BString RANKER = StringUtils.fromString("ranker");
+    public static final BString WEIGHTS = StringUtils.fromString("weights");
+    public static final BString RRF_K = StringUtils.fromString("k");
+    private static final String SEARCH_ERROR = "Failed to search data";
+    private static final String HYBRID_SEARCH_ERROR = "Failed to run the hybrid search";
 
     public static BError initiateClient(BObject clientObj, BString serviceUrl, BMap<String, Object> config) {
         try {
@@ -96,6 +141,7 @@ public class Client {
             long connectTimeout = config.getIntValue(CONNECT_TIMEOUT) * 1000;
             Object idleTimeout = config.get(IDLE_TIMEOUT);
             long rpcDeadline = config.getIntValue(RPC_DEADLINE) * 1000;
+            long keepAliveTime = config.getIntValue(KEEP_ALIVE_TIME) * 1000;
             long keepAliveTimeout = config.getIntValue(KEEP_ALIVE_TIMEOUT) * 1000;
             BString serverName = config.getStringValue(SERVER_NAME);
             BString proxyAddress = config.getStringValue(PROXY_ADDRESS);
@@ -111,6 +157,7 @@ public class Client {
             connectionConfig
                     .uri(serviceUrl.getValue())
                     .rpcDeadlineMs(rpcDeadline)
+                    .keepAliveTimeMs(keepAliveTime)
                     .keepAliveTimeoutMs(keepAliveTimeout)
                     .connectTimeoutMs(connectTimeout)
                     .keepAliveWithoutCalls(keepAliveWithoutCalls);
@@ -123,199 +170,554 @@ public class Client {
                     connectionConfig.proxyAddress(proxyAddress.getValue()) : connectionConfig;
             connectionConfig = (token != null) ? connectionConfig.token(token) : connectionConfig;
             connectionConfig = (dbName != null) ? connectionConfig.dbName(dbName.getValue()) : connectionConfig;
-            connectionConfig = (dbName != null) ? connectionConfig.dbName(dbName.getValue()) : connectionConfig;
             if (credentialConfig != null) {
-                connectionConfig = connectionConfig.username(config.getStringValue(USERNAME).getValue());
-                connectionConfig = connectionConfig.password(config.getStringValue(PASSWORD).getValue());
+                connectionConfig = connectionConfig.username(credentialConfig.getStringValue(USERNAME).getValue());
+                connectionConfig = connectionConfig.password(credentialConfig.getStringValue(PASSWORD).getValue());
+            }
+            BMap<?, ?> secureConfig = config.getMapValue(SECURE_CONFIG);
+            if (secureConfig != null) {
+                connectionConfig = connectionConfig
+                        .secure(true)
+                        .clientKeyPath(secureConfig.getStringValue(CLIENT_KEY_PATH).getValue())
+                        .clientPemPath(secureConfig.getStringValue(CLIENT_PEM_PATH).getValue())
+                        .serverPemPath(secureConfig.getStringValue(SERVER_PEM_PATH).getValue())
+                        .caPemPath(secureConfig.getStringValue(CA_PEM_PATH).getValue());
+            }
+            boolean lazyConnect = config.getBooleanValue(ClientProvider.LAZY_CONNECT);
+            ClientExecutor executor = ClientExecutor.create(config);
+            BMap<?, ?> poolConfig = config.getMapValue(POOL_CONFIG);
+            RetryConfig sdkRetryConfig = RetryPolicy.toSdkRetryConfig(config);
+            ClientProvider provider = ClientProvider.create(connectionConfig.build(), poolConfig, sdkRetryConfig,
+                    lazyConnect);
+            // The read endpoints are connected with the same configurations as the service URL.
+            BArray readEndpoints = config.getArrayValue(READ_ENDPOINTS);
+            List<ClientProvider> readProviders = new ArrayList<>();
+            if (readEndpoints != null) {
+                for (String readEndpoint : readEndpoints.getStringArray()) {
+                    readProviders.add(ClientProvider.create(connectionConfig.uri(readEndpoint).build(), poolConfig,
+                            sdkRetryConfig, lazyConnect));
+                }
             }
-            MilvusClientV2 client = new MilvusClientV2(connectionConfig.build());
-            clientObj.addNativeData(NATIVE_CLIENT, client);
+            ReadRouter readRouter = ReadRouter.create(provider, readProviders);
+            clientObj.addNativeData(NATIVE_CLIENT, provider);
+            clientObj.addNativeData(READ_ROUTER, readRouter);
+            clientObj.addNativeData(EXECUTOR, executor);
+            clientObj.addNativeData(CACHE, SearchCache.create(config.getMapValue(SEARCH_CACHE)));
+            clientObj.addNativeData(COALESCER,
+                    SearchCoalescer.create(readRouter::next, config.getMapValue(SEARCH_BATCHING)));
+            clientObj.addNativeData(WARMUP, Warmup.start(provider, readRouter, config.getArrayValue(Warmup.WARMUP)));
             return null;
         } catch (Exception error) {
             return createError("Failed to initiate Milvus client", error);
         }
     }
 
-    public static Object createCollection(BObject clientObject, BMap<String, Object> request) {
-        try {
-            MilvusClientV2 client = (MilvusClientV2) clientObject.getNativeData(NATIVE_CLIENT);
+    public static Object createCollection(Environment env, BObject clientObject, BMap<String, Object> request) {
+        Observation observation = Observation.start(env, "createCollection", request.getStringValue(COLLECTION_NAME));
+        return execute(env, clientObject, observation, NO_RETRY, "Failed to create the collection", client -> {
             String collectionName = request.getStringValue(COLLECTION_NAME).getValue();
             Long dimension = request.getIntValue(DIMENSION);
-            CreateCollectionReq createCollectionRequest = CreateCollectionReq.builder()
+            BArray fields = request.getArrayValue(FIELDS);
+            BArray indexes = request.getArrayValue(INDEXES);
+            BString metricType = request.getStringValue(METRIC_TYPE);
+            BString description = request.getStringValue(DESCRIPTION);
+            BString databaseName = request.getStringValue(DATABASE_NAME);
+            Long numPartitions = request.getIntValue(NUM_PARTITIONS);
+            boolean enableDynamicField = request.getBooleanValue(ENABLE_DYNAMIC_FIELD);
+            CreateCollectionReq.CreateCollectionReqBuilder<?, ?> createCollectionRequest = CreateCollectionReq.builder()
                     .collectionName(collectionName)
-                    .dimension(dimension.intValue())
-                    .enableDynamicField(true)
-                    .build();
-            client.createCollection(createCollectionRequest);
+                    .enableDynamicField(enableDynamicField);
+            createCollectionRequest = (databaseName != null)
+                    ? createCollectionRequest.databaseName(databaseName.getValue()) : createCollectionRequest;
+            createCollectionRequest = (numPartitions != null)
+                    ? createCollectionRequest.numPartitions(numPartitions.intValue()) : createCollectionRequest;
+            if (fields != null) {
+                // With an explicit schema, the collection is only indexed and loaded if the indexes are given.
+                createCollectionRequest = createCollectionRequest
+                        .collectionSchema(SchemaConverter.toCollectionSchema(fields, enableDynamicField));
+                createCollectionRequest = (indexes != null)
+                        ? createCollectionRequest.indexParams(SchemaConverter.toIndexParams(indexes))
+                        : createCollectionRequest;
+            } else if (dimension != null) {
+                createCollectionRequest = createCollectionRequest.dimension(dimension.intValue());
+                createCollectionRequest = (metricType != null)
+                        ? createCollectionRequest.metricType(metricType.getValue()) : createCollectionRequest;
+            } else {
+                return createError("Either the dimension or the fields of the collection must be provided", null);
+            }
+            createCollectionRequest = (description != null)
+                    ? createCollectionRequest.description(description.getValue()) : createCollectionRequest;
+            CreateCollectionReq createCollectionReq = createCollectionRequest.build();
+            observation.rpc(() -> client.createCollection(createCollectionReq));
             return null;
-        } catch (Exception error) {
-            return createError("Failed to create the collection", error);
-        }
+        });
     }
 
-    public static Object loadCollection(BObject clientObject, BString collectionName) {
-        try {
-            MilvusClientV2 client = (MilvusClientV2) clientObject.getNativeData(NATIVE_CLIENT);
-            client.loadCollection(LoadCollectionReq.builder()
-                    .collectionName(collectionName.getValue())
-                    .build());
+    public static Object loadCollection(Environment env, BObject clientObject, BString collectionName,
+                                        Object databaseName) {
+        Observation observation = Observation.start(env, "loadCollection", collectionName);
+        return execute(env, clientObject, observation, RETRY, "Failed to load the collection", client -> {
+            LoadCollectionReq.LoadCollectionReqBuilder<?, ?> loadCollectionReq = LoadCollectionReq.builder()
+                    .collectionName(collectionName.getValue());
+            // The SDK waits on the load in the database of the client, so the loads in other databases are waited on
+            // here instead.
+            String database = (databaseName != null) ? ((BString) databaseName).getValue() : null;
+            loadCollectionReq = (database != null)
+                    ? loadCollectionReq.databaseName(database).sync(false) : loadCollectionReq;
+            LoadCollectionReq loadCollectionRequest = loadCollectionReq.build();
+            observation.rpc(() -> client.loadCollection(loadCollectionRequest));
+            if (database != null) {
+                Utils.awaitLoaded(client, collectionName.getValue(), database, loadCollectionRequest.getTimeout());
+            }
             return null;
-        } catch (Exception error) {
-            return createError("Failed to load the collection", error);
-        }
+        });
     }
 
-    public static Object listCollections(BObject clientObject) {
-        try {
-            MilvusClientV2 client = (MilvusClientV2) clientObject.getNativeData(NATIVE_CLIENT);
-            List<String> collectionsList = client.listCollections().getCollectionNames();
+    public static Object listCollections(Environment env, BObject clientObject) {
+        Observation observation = Observation.start(env, "listCollections", null);
+        return execute(env, clientObject, observation, RETRY, "Failed to list collections", client -> {
+            List<String> collectionsList = observation.rpc(client::listCollections).getCollectionNames();
             BString[] collectionNames = collectionsList.stream()
                     .map(StringUtils::fromString)
                     .toArray(BString[]::new);
             return ValueCreator.createArrayValue(collectionNames);
-        } catch (Exception error) {
-            return createError("Failed to list collections", error);
-        }
+        });
     }
 
-    public static Object createIndex(BObject clientObject, BMap<String, Object> request) {
-        try {
+    public static Object createIndex(Environment env, BObject clientObject, BMap<String, Object> request) {
+        Observation observation = Observation.start(env, "createIndex", request.getStringValue(COLLECTION_NAME));
+        return execute(env, clientObject, observation, NO_RETRY, "Failed to create index", client -> {
             String collectionName = request.getStringValue(COLLECTION_NAME).getValue();
             BArray fieldNames = request.getArrayValue(FIELD_NAMES);
             BString primaryKey = request.getStringValue(PRIMARY_KEY);
-            MilvusClientV2 client = (MilvusClientV2) clientObject.getNativeData(NATIVE_CLIENT);
+            BArray indexes = request.getArrayValue(INDEXES);
             List<IndexParam> indexParams = new ArrayList<>();
-            for (String fieldName : fieldNames.getStringArray()) {
-                indexParams.add(IndexParam.builder().fieldName(fieldName).build());
+            if (fieldNames != null) {
+                for (String fieldName : fieldNames.getStringArray()) {
+                    indexParams.add(IndexParam.builder().fieldName(fieldName).build());
+                }
             }
-            indexParams.add(IndexParam.builder()
-                    .indexType(IndexParam.IndexType.AUTOINDEX)
-                    .fieldName(primaryKey.getValue())
-                    .build());
-            CreateIndexReq createIndexReq = CreateIndexReq.builder()
+            if (primaryKey != null) {
+                indexParams.add(IndexParam.builder()
+                        .indexType(IndexParam.IndexType.AUTOINDEX)
+                        .fieldName(primaryKey.getValue())
+                        .build());
+            }
+            if (indexes != null) {
+                indexParams.addAll(SchemaConverter.toIndexParams(indexes));
+            }
+            if (indexParams.isEmpty()) {
+                return createError("No indexes provided to create", null);
+            }
+            BString databaseName = request.getStringValue(DATABASE_NAME);
+            CreateIndexReq.CreateIndexReqBuilder<?, ?> createIndexRequest = CreateIndexReq.builder()
                     .collectionName(collectionName)
-                    .indexParams(indexParams)
-                    .build();
-            client.createIndex(createIndexReq);
+                    .indexParams(indexParams);
+            createIndexRequest = (databaseName != null)
+                    ? createIndexRequest.databaseName(databaseName.getValue()) : createIndexRequest;
+            CreateIndexReq createIndexReq = createIndexRequest.build();
+            observation.rpc(() -> client.createIndex(createIndexReq));
             return null;
-        } catch (Exception error) {
-            return createError("Failed to create index", error);
-        }
+        });
     }
 
-    public static Object upsert(BObject clientObject, BMap<String, Object> request) {
-        try {
-            MilvusClientV2 client = (MilvusClientV2) clientObject.getNativeData(NATIVE_CLIENT);
+    public static Object upsert(Environment env, BObject clientObject, BMap<String, Object> request) {
+        Observation observation = Observation.start(env, "upsert", request.getStringValue(COLLECTION_NAME));
+        return executeWrite(env, clientObject, request, observation, RETRY, "Failed to upsert data", client -> {
             String collectionName = request.getStringValue(COLLECTION_NAME).getValue();
             BMap<?, ?> data = request.getMapValue(DATA);
-            double[] vectors = ((BArray) data.get(VECTORS)).getFloatArray();
-            long id = data.getIntValue(ID);
-            Gson gson = new Gson();
-            JsonObject row = new JsonObject();
-            List<Double> vectorList = new ArrayList<>();
-            for (double vector : vectors) {
-                vectorList.add(vector);
+            if (observation.isRecording()) {
+                observation.requestSize(RowEncoder.estimateSize(data));
             }
-            row.add(VECTOR, gson.toJsonTree(vectorList));
-            row.add(ID_FIELD, gson.toJsonTree(id));
-            applyDynamicFields(data, gson, row, ID_FIELD);
-            List<JsonObject> dataList = new ArrayList<>();
-            dataList.add(row);
-            UpsertReq upsertRequest = UpsertReq.builder()
+            List<JsonObject> dataList = new ArrayList<>(1);
+            dataList.add(RowEncoder.encode(data, getVectorType(request)));
+            BString partitionName = request.getStringValue(PARTITION_NAME);
+            BString databaseName = request.getStringValue(DATABASE_NAME);
+            UpsertReq.UpsertReqBuilder<?, ?> upsertReq = UpsertReq.builder()
                     .collectionName(collectionName)
-                    .data(dataList)
-                    .build();
-            client.upsert(upsertRequest);
+                    .data(dataList);
+            upsertReq = (partitionName != null) ? upsertReq.partitionName(partitionName.getValue()) : upsertReq;
+            upsertReq = (databaseName != null) ? upsertReq.databaseName(databaseName.getValue()) : upsertReq;
+            UpsertReq upsertRequest = upsertReq.build();
+            observation.affectedRows(observation.rpc(() -> client.upsert(upsertRequest)).getUpsertCnt());
             return null;
-        } catch (Exception error) {
-            return createError("Failed to upsert data", error);
-        }
+        });
     }
 
-    public static Object delete(BObject clientObject, BMap<String, Object> request) {
-        try {
-            MilvusClientV2 client = (MilvusClientV2) clientObject.getNativeData(NATIVE_CLIENT);
+    public static Object upsertBatch(Environment env, BObject clientObject, BMap<String, Object> request,
+                                     BArray data) {
+        Observation observation = Observation.start(env, "upsertBatch", request.getStringValue(COLLECTION_NAME));
+        return executeWrite(env, clientObject, request, observation, RETRY, "Failed to upsert data", client -> {
+            long batchSize = request.getIntValue(BATCH_SIZE);
+            long maxBatchBytes = request.getIntValue(MAX_BATCH_BYTES);
+            if (batchSize <= 0 || maxBatchBytes <= 0) {
+                return createError("Batch size and max batch bytes must be positive", null);
+            }
+            UpsertReq.UpsertReqBuilder<?, ?> upsertReq = UpsertReq.builder()
+                    .collectionName(request.getStringValue(COLLECTION_NAME).getValue());
+            BString partitionName = request.getStringValue(PARTITION_NAME);
+            BString databaseName = request.getStringValue(DATABASE_NAME);
+            upsertReq = (partitionName != null) ? upsertReq.partitionName(partitionName.getValue()) : upsertReq;
+            upsertReq = (databaseName != null) ? upsertReq.databaseName(databaseName.getValue()) : upsertReq;
+
+            String vectorType = getVectorType(request);
+            int initialCapacity = (int) Math.min(batchSize, data.size());
+            List<JsonObject> rows = new ArrayList<>(initialCapacity);
+            long batchBytes = 0;
+            long totalBytes = 0;
+            long upsertCount = 0;
+            for (int i = 0; i < data.size(); i++) {
+                BMap<?, ?> entry = (BMap<?, ?>) data.get(i);
+                long rowBytes = RowEncoder.estimateSize(entry);
+                if (!rows.isEmpty() && batchBytes + rowBytes > maxBatchBytes) {
+                    upsertCount += upsertRows(client, observation, upsertReq.data(rows).build());
+                    rows = new ArrayList<>(initialCapacity);
+                    batchBytes = 0;
+                }
+                rows.add(RowEncoder.encode(entry, vectorType));
+                batchBytes += rowBytes;
+                totalBytes += rowBytes;
+                if (rows.size() >= batchSize) {
+                    upsertCount += upsertRows(client, observation, upsertReq.data(rows).build());
+                    rows = new ArrayList<>(initialCapacity);
+                    batchBytes = 0;
+                }
+            }
+            if (!rows.isEmpty()) {
+                upsertCount += upsertRows(client, observation, upsertReq.data(rows).build());
+            }
+            observation.requestSize(totalBytes);
+            observation.affectedRows(upsertCount);
+            return upsertCount;
+        });
+    }
+
+    private static long upsertRows(MilvusClientV2 client, Observation observation, UpsertReq upsertReq) {
+        return observation.rpc(() -> client.upsert(upsertReq)).getUpsertCnt();
+    }
+
+    public static Object delete(Environment env, BObject clientObject, BMap<String, Object> request) {
+        Observation observation = Observation.start(env, "delete", request.getStringValue(COLLECTION_NAME));
+        return executeWrite(env, clientObject, request, observation, NO_RETRY, "Failed to delete data", client -> {
             BString collectionName = request.getStringValue(COLLECTION_NAME);
             BString partitionName = request.getStringValue(PARTITION_NAME);
+            BString databaseName = request.getStringValue(DATABASE_NAME);
             BArray ids = request.getArrayValue(IDS);
             BString filter = request.getStringValue(FILTER);
             DeleteReq.DeleteReqBuilder<?, ?> deleteReq = DeleteReq.builder();
             deleteReq = (collectionName != null) ? deleteReq.collectionName(collectionName.getValue()) : deleteReq;
             deleteReq = (partitionName != null) ? deleteReq.partitionName(partitionName.getValue()) : deleteReq;
+            deleteReq = (databaseName != null) ? deleteReq.databaseName(databaseName.getValue()) : deleteReq;
             deleteReq = (ids != null)
-                    ? deleteReq.ids(Arrays.stream(ids.getIntArray()).boxed().collect(Collectors.toList())) : deleteReq;
+                    ? deleteReq.ids(Arrays.stream(Utils.intArray(ids)).boxed().collect(Collectors.toList()))
+                    : deleteReq;
             deleteReq = (filter != null) ? deleteReq.filter(filter.getValue()) : deleteReq;
-            DeleteResp deleteResp = client.delete(deleteReq.build());
+            if (observation.isRecording()) {
+                observation.requestSize((ids != null ? (long) ids.size() * Long.BYTES : 0)
+                        + (filter != null ? filter.length() : 0));
+            }
+            DeleteReq deleteRequest = deleteReq.build();
+            DeleteResp deleteResp = observation.rpc(() -> client.delete(deleteRequest));
+            observation.affectedRows(deleteResp.getDeleteCnt());
             return deleteResp.getDeleteCnt();
-        } catch (Exception error) {
-            return createError("Failed to delete data", error);
+        });
+    }
+
+    public static Object search(Environment env, BObject clientObject, BMap<String, Object> request) {
+        Object vectors = request.get(VECTORS);
+        if (vectors == null || (vectors instanceof BArray vectorArray && vectorArray.size() == 0)) {
+            return createError("Vectors cannot be null or empty", null);
         }
+        boolean floatVectors = VectorEncoder.isFloat(vectors);
+        BString collectionName = request.getStringValue(COLLECTION_NAME);
+        Observation observation = Observation.start(env, "search", collectionName);
+        // Cache hits are served on the calling strand, without leasing a connection. The searches for packed or sparse
+        // vectors are neither cached nor batched, as both are keyed on the float vectors.
+        SearchCache cache = (SearchCache) clientObject.getNativeData(CACHE);
+        SearchCache.Key cacheKey = cache != null && floatVectors ? cache.key(request) : null;
+        if (cacheKey != null) {
+            List<List<SearchResp.SearchResult>> cachedResults = cache.get(cacheKey);
+            if (cachedResults != null) {
+                BArray results = ResultConverter.toSearchResults(cachedResults);
+                observation.completed(results);
+                return results;
+            }
+        }
+        long generation = cacheKey != null ? cache.generation(cacheKey.collectionName()) : 0;
+        SearchCoalescer coalescer = (SearchCoalescer) clientObject.getNativeData(COALESCER);
+        if (coalescer != null && floatVectors && SearchCoalescer.isSingleVector((BArray) vectors)) {
+            // The wait for the batch is counted as the time of the gRPC call, as that is what the search waits on.
+            // A retried or hedged attempt joins a batch of its own, and the call deadline bounds the wait.
+            ClientExecutor executor = (ClientExecutor) clientObject.getNativeData(EXECUTOR);
+            return executor.execute(env, observation, RETRY_AND_HEDGE, SEARCH_ERROR, () -> {
+                List<SearchResp.SearchResult> searchResult =
+                        observation.rpc(() -> coalescer.search(request, (BArray) vectors));
+                return toSearchResults(vectors, List.of(searchResult), cache, cacheKey, generation, observation);
+            });
+        }
+        return executeRead(env, clientObject, observation, RETRY_AND_HEDGE, SEARCH_ERROR, client -> {
+            SearchReq searchRequest = toSearchReq(request, VectorEncoder.encodeAll(vectors, getVectorType(request)));
+            List<List<SearchResp.SearchResult>> searchResults =
+                    observation.rpc(() -> client.search(searchRequest)).getSearchResults();
+            return toSearchResults(vectors, searchResults, cache, cacheKey, generation, observation);
+        });
     }
 
-    public static Object search(BObject clientObject, BMap<String, Object> request) {
-        try {
-            MilvusClientV2 client = (MilvusClientV2) clientObject.getNativeData(NATIVE_CLIENT);
-            BString collectionName = request.getStringValue(COLLECTION_NAME);
-            BArray partitionName = request.getArrayValue(PARTITION_NAMES);
-            BArray vectors = request.getArrayValue(VECTORS);
-            BString filter = request.getStringValue(FILTER);
-            Long topK = request.getIntValue(TOP_K);
+    static SearchReq toSearchReq(BMap<String, Object> request, List<BaseVector> data) {
+        BString collectionName = request.getStringValue(COLLECTION_NAME);
+        List<String> partitionNames = Utils.partitionNames(request);
+        BString databaseName = request.getStringValue(DATABASE_NAME);
+        BString filter = request.getStringValue(FILTER);
+        Long topK = request.getIntValue(TOP_K);
+        SearchReq.SearchReqBuilder<?, ?> searchReq = SearchReq.builder();
+        searchReq = (collectionName != null) ? searchReq.collectionName(collectionName.getValue()) : searchReq;
+        searchReq = (partitionNames != null) ? searchReq.partitionNames(partitionNames) : searchReq;
+        searchReq = (databaseName != null) ? searchReq.databaseName(databaseName.getValue()) : searchReq;
+        searchReq = searchReq.data(data);
+        searchReq = (filter != null) ? searchReq.filter(filter.getValue()) : searchReq;
+        searchReq = (topK != null) ? searchReq.topK(topK.intValue()) : searchReq;
+        BString annsField = request.getStringValue(ANNS_FIELD);
+        BString metricType = request.getStringValue(METRIC_TYPE);
+        BMap<?, ?> searchParams = request.getMapValue(SEARCH_PARAMS);
+        searchReq = (annsField != null) ? searchReq.annsField(annsField.getValue()) : searchReq;
+        searchReq = (metricType != null)
+                ? searchReq.metricType(SchemaConverter.toMetricType(metricType)) : searchReq;
+        searchReq = (searchParams != null)
+                ? searchReq.searchParams(SchemaConverter.toParams(searchParams)) : searchReq;
+        BArray outputFields = request.getArrayValue(OUTPUT_FIELDS);
+        searchReq = (outputFields != null)
+                ? searchReq.outputFields(Arrays.asList(outputFields.getStringArray())) : searchReq;
+        return searchReq.build();
+    }
 
-            if (vectors == null || vectors.size() == 0) {
-                return createError("Vectors cannot be null or empty", null);
+    public static Object hybridSearch(Environment env, BObject clientObject, BMap<String, Object> request) {
+        BArray searches = request.getArrayValue(SEARCHES);
+        if (searches.size() == 0) {
+            return createError("Searches cannot be empty", null);
+        }
+        Observation observation = Observation.start(env, "hybridSearch", request.getStringValue(COLLECTION_NAME));
+        return executeRead(env, clientObject, observation, RETRY_AND_HEDGE, HYBRID_SEARCH_ERROR, client -> {
+            HybridSearchReq hybridSearchRequest = toHybridSearchReq(request, searches);
+            BArray results = ResultConverter.toSearchResults(
+                    observation.rpc(() -> client.hybridSearch(hybridSearchRequest)).getSearchResults());
+            if (observation.isRecording()) {
+                observation.requestSize(RowEncoder.estimateValueSize(searches));
+                observation.responseSize(RowEncoder.estimateValueSize(results));
             }
-            List<BaseVector> vectorArray = new ArrayList<>();
+            return results;
+        });
+    }
 
-            if (vectors.getElementType().getTag() == TypeTags.FLOAT_TAG) {
-                vectorArray.add(new FloatVec(Arrays.stream(vectors.getFloatArray())
-                        .mapToObj(d -> (float) d)
-                        .collect(Collectors.toList())));
-            } else {
-                for (int i = 0; i < vectors.size(); i++) {
-                    BArray currentVector = (BArray) vectors.get(i); // Use get(i) instead of array access
-                    vectorArray.add(new FloatVec(Arrays.stream(currentVector.getFloatArray())
-                            .mapToObj(d -> (float) d)
-                            .collect(Collectors.toList())));
-                }
+    private static HybridSearchReq toHybridSearchReq(BMap<String, Object> request, BArray searches) {
+        long topK = request.getIntValue(TOP_K);
+        List<AnnSearchReq> searchRequests = new ArrayList<>(searches.size());
+        for (int i = 0; i < searches.size(); i++) {
+            BMap<?, ?> search = (BMap<?, ?>) searches.get(i);
+            Long searchTopK = search.getIntValue(TOP_K);
+            BString filter = search.getStringValue(FILTER);
+            BString metricType = search.getStringValue(METRIC_TYPE);
+            BMap<?, ?> searchParams = search.getMapValue(SEARCH_PARAMS);
+            AnnSearchReq.AnnSearchReqBuilder<?, ?> annSearchReq = AnnSearchReq.builder()
+                    .vectorFieldName(search.getStringValue(ANNS_FIELD).getValue())
+                    .vectors(VectorEncoder.encodeAll(search.get(VECTORS), getVectorType(search)))
+                    .limit(searchTopK != null ? searchTopK : topK);
+            annSearchReq = (filter != null) ? annSearchReq.filter(filter.getValue()) : annSearchReq;
+            annSearchReq = (metricType != null)
+                    ? annSearchReq.metricType(SchemaConverter.toMetricType(metricType)) : annSearchReq;
+            annSearchReq = (searchParams != null)
+                    ? annSearchReq.params(SchemaConverter.toJsonParams(searchParams)) : annSearchReq;
+            searchRequests.add(annSearchReq.build());
+        }
+        HybridSearchReq.HybridSearchReqBuilder<?, ?> hybridSearchReq = HybridSearchReq.builder()
+                .collectionName(request.getStringValue(COLLECTION_NAME).getValue())
+                .searchRequests(searchRequests)
+                .ranker(toRanker(request.getMapValue(RANKER), searches.size()))
+                .limit(topK);
+        List<String> partitionNames = Utils.partitionNames(request);
+        BString databaseName = request.getStringValue(DATABASE_NAME);
+        BArray outputFields = request.getArrayValue(OUTPUT_FIELDS);
+        hybridSearchReq = (partitionNames != null) ? hybridSearchReq.partitionNames(partitionNames) : hybridSearchReq;
+        hybridSearchReq = (databaseName != null)
+                ? hybridSearchReq.databaseName(databaseName.getValue()) : hybridSearchReq;
+        hybridSearchReq = (outputFields != null)
+                ? hybridSearchReq.outFields(Arrays.asList(outputFields.getStringArray())) : hybridSearchReq;
+        return hybridSearchReq.build();
+    }
+
+    // The rankers are told apart by their fields, as a weighted ranker is the only one with weights.
+    private static BaseRanker toRanker(BMap<?, ?> ranker, int searchCount) {
+        BArray weights = ranker.getArrayValue(WEIGHTS);
+        if (weights == null) {
+            return new RRFRanker(ranker.getIntValue(RRF_K).intValue());
+        }
+        if (weights.size() != searchCount) {
+            throw new IllegalArgumentException("Weighted ranker must have a weight for each of the searches");
+        }
+        List<Float> rankerWeights = new ArrayList<>(weights.size());
+        for (double weight : Utils.floatArray(weights)) {
+            rankerWeights.add((float) weight);
+        }
+        return new WeightedRanker(rankerWeights);
+    }
+
+    static String getVectorType(BMap<?, ?> request) {
+        BString vectorType = request.getStringValue(VectorEncoder.VECTOR_TYPE);
+        return vectorType != null ? vectorType.getValue() : VectorEncoder.FLOAT_VECTOR;
+    }
+
+    private static BArray toSearchResults(Object vectors, List<List<SearchResp.SearchResult>> searchResults,
+                                          SearchCache cache, SearchCache.Key cacheKey, long generation,
+                                          Observation observation) {
+        if (cacheKey != null) {
+            cache.put(cacheKey, generation, searchResults);
+        }
+        BArray results = ResultConverter.toSearchResults(searchResults);
+        if (observation.isRecording()) {
+            observation.requestSize(RowEncoder.estimateValueSize(vectors));
+            observation.responseSize(RowEncoder.estimateValueSize(results));
+        }
+        return results;
+    }
+
+    public static Object query(Environment env, BObject clientObject, BMap<String, Object> request) {
+        Observation observation = Observation.start(env, "query", request.getStringValue(COLLECTION_NAME));
+        return executeRead(env, clientObject, observation, RETRY, "Failed to query data", client -> {
+            QueryReq.QueryReqBuilder<?, ?> queryReq = QueryReq.builder()
+                    .collectionName(request.getStringValue(COLLECTION_NAME).getValue());
+            List<String> partitionNames = Utils.partitionNames(request);
+            BString databaseName = request.getStringValue(DATABASE_NAME);
+            BString filter = request.getStringValue(FILTER);
+            BArray ids = request.getArrayValue(IDS);
+            BArray outputFields = request.getArrayValue(OUTPUT_FIELDS);
+            Long limit = request.getIntValue(LIMIT);
+            Long offset = request.getIntValue(OFFSET);
+            queryReq = (partitionNames != null) ? queryReq.partitionNames(partitionNames) : queryReq;
+            queryReq = (databaseName != null) ? queryReq.databaseName(databaseName.getValue()) : queryReq;
+            queryReq = (filter != null) ? queryReq.filter(filter.getValue()) : queryReq;
+            queryReq = (ids != null)
+                    ? queryReq.ids(Arrays.stream(Utils.intArray(ids)).boxed().collect(Collectors.toList())) : queryReq;
+            queryReq = (outputFields != null)
+                    ? queryReq.outputFields(Arrays.asList(outputFields.getStringArray())) : queryReq;
+            queryReq = (limit != null) ? queryReq.limit(limit) : queryReq;
+            queryReq = (offset != null) ? queryReq.offset(offset) : queryReq;
+            QueryReq queryRequest = queryReq.build();
+            BArray entities = ResultConverter.toEntities(observation.rpc(() -> client.query(queryRequest))
+                    .getQueryResults());
+            if (observation.isRecording()) {
+                observation.responseSize(RowEncoder.estimateValueSize(entities));
             }
-            SearchReq.SearchReqBuilder<?, ?> searchReq = SearchReq.builder();
-            searchReq = (collectionName != null) ? searchReq.collectionName(collectionName.getValue()) : searchReq;
-            searchReq = (partitionName != null)
-                    ? searchReq.partitionNames(Arrays.asList(partitionName.getStringArray())) : searchReq;
-            searchReq = searchReq.data(vectorArray);
+            return entities;
+        });
+    }
+
+    public static Object startBulkImport(BObject clientObject, BMap<String, Object> request, BObject job) {
+        return BulkImporter.start(clientObject, request, job);
+    }
+
+    public static Object openQueryIterator(Environment env, BObject clientObject, BMap<String, Object> request,
+                                           BObject iterator) {
+        BString collectionName = request.getStringValue(COLLECTION_NAME);
+        return ResultIterator.open(env, clientObject, iterator, "queryIterator", collectionName,
+                "Failed to open the query iterator", (client, observation) -> {
+            QueryIteratorReq.QueryIteratorReqBuilder<?, ?> queryReq = QueryIteratorReq.builder()
+                    .collectionName(collectionName.getValue())
+                    .batchSize(request.getIntValue(PAGE_SIZE));
+            List<String> partitionNames = Utils.partitionNames(request);
+            BString databaseName = request.getStringValue(DATABASE_NAME);
+            BString filter = request.getStringValue(FILTER);
+            BArray outputFields = request.getArrayValue(OUTPUT_FIELDS);
+            Long limit = request.getIntValue(LIMIT);
+            queryReq = (partitionNames != null) ? queryReq.partitionNames(partitionNames) : queryReq;
+            queryReq = (databaseName != null) ? queryReq.databaseName(databaseName.getValue()) : queryReq;
+            queryReq = (filter != null) ? queryReq.expr(filter.getValue()) : queryReq;
+            queryReq = (outputFields != null)
+                    ? queryReq.outputFields(Arrays.asList(outputFields.getStringArray())) : queryReq;
+            queryReq = (limit != null) ? queryReq.limit(limit) : queryReq;
+            QueryIteratorReq queryRequest = queryReq.build();
+            return ResultIterator.querySource(observation.rpc(() -> client.queryIterator(queryRequest)));
+        });
+    }
+
+    public static Object openSearchIterator(Environment env, BObject clientObject, BMap<String, Object> request,
+                                            BObject iterator) {
+        BString collectionName = request.getStringValue(COLLECTION_NAME);
+        return ResultIterator.open(env, clientObject, iterator, "searchIterator", collectionName,
+                "Failed to open the search iterator", (client, observation) -> {
+            BaseVector vector = VectorEncoder.encode(request.getArrayValue(ITERATOR_VECTOR), getVectorType(request));
+            SearchIteratorReqV2.SearchIteratorReqV2Builder<?, ?> searchReq = SearchIteratorReqV2.builder()
+                    .collectionName(collectionName.getValue())
+                    .vectors(List.of(vector))
+                    .batchSize(request.getIntValue(PAGE_SIZE));
+            List<String> partitionNames = Utils.partitionNames(request);
+            BString databaseName = request.getStringValue(DATABASE_NAME);
+            BString filter = request.getStringValue(FILTER);
+            BArray outputFields = request.getArrayValue(OUTPUT_FIELDS);
+            Long limit = request.getIntValue(LIMIT);
+            BString annsField = request.getStringValue(ANNS_FIELD);
+            BString metricType = request.getStringValue(METRIC_TYPE);
+            BMap<?, ?> searchParams = request.getMapValue(SEARCH_PARAMS);
+            searchReq = (partitionNames != null) ? searchReq.partitionNames(partitionNames) : searchReq;
+            searchReq = (databaseName != null) ? searchReq.databaseName(databaseName.getValue()) : searchReq;
             searchReq = (filter != null) ? searchReq.filter(filter.getValue()) : searchReq;
-            searchReq = (topK != null) ? searchReq.topK(topK.intValue()) : searchReq;
-
-            SearchResp searchR = client.search(searchReq.build());
-            List<List<SearchResp.SearchResult>> searchResults = searchR.getSearchResults();
-
-            RecordType recordType = TypeCreator.createRecordType(SEARCH_RESULT,
-                    ModuleUtils.getModule(), 0, false, 1);
-            ArrayType arrayType = TypeCreator.createArrayType(recordType);
-            BArray[] resultArrays = new BArray[searchResults.size()];
-
-            for (List<SearchResp.SearchResult> result : searchResults) {
-                BMap<BString, Object>[] responses = new BMap[result.size()];
-                for (SearchResp.SearchResult res : result) {
-                    BMap<BString, Object> response =
-                            ValueCreator.createRecordValue(ModuleUtils.getModule(), SEARCH_RESULT);
-                    BMap<BString, Object> entity = ValueCreator.createMapValue();
-                    for (String key: res.getEntity().keySet()) {
-                        entity.put(StringUtils.fromString(key), res.getEntity().get(key));
-                    }
-                    response.put(PRIMARY_KEY, StringUtils.fromString(res.getPrimaryKey()));
-                    response.put(SEARCH_ID, res.getId());
-                    response.put(SIMILARITY_SCORE, res.getScore().doubleValue());
-                    response.put(ENTITY, entity);
-                    responses[result.indexOf(res)] = response;
-                }
-                BArray responseArray = ValueCreator.createArrayValue(responses,
-                        TypeCreator.createArrayType(recordType));
-                resultArrays[searchResults.indexOf(result)] = responseArray;
-            }
-            return ValueCreator.createArrayValue(resultArrays, TypeCreator.createArrayType(arrayType));
-        } catch (Exception error) {
-            return createError("Failed to search data", error);
+            searchReq = (outputFields != null)
+                    ? searchReq.outputFields(Arrays.asList(outputFields.getStringArray())) : searchReq;
+            searchReq = (limit != null) ? searchReq.limit(limit) : searchReq;
+            searchReq = (annsField != null) ? searchReq.vectorFieldName(annsField.getValue()) : searchReq;
+            searchReq = (metricType != null)
+                    ? searchReq.metricType(SchemaConverter.toMetricType(metricType)) : searchReq;
+            searchReq = (searchParams != null)
+                    ? searchReq.searchParams(SchemaConverter.toParams(searchParams)) : searchReq;
+            SearchIteratorReqV2 searchRequest = searchReq.build();
+            return ResultIterator.searchSource(observation.rpc(() -> client.searchIteratorV2(searchRequest)));
+        });
+    }
+
+    private static Object execute(Environment env, BObject clientObject, Observation observation,
+                                  RetryPolicy.Mode mode, String errorMessage, ClientExecutor.Operation operation) {
+        ClientProvider provider = (ClientProvider) clientObject.getNativeData(NATIVE_CLIENT);
+        ClientExecutor executor = (ClientExecutor) clientObject.getNativeData(EXECUTOR);
+        return executor.execute(env, provider, observation, mode, errorMessage, operation);
+    }
+
+    // Runs a search or a query against the next read endpoint of the client.
+    private static Object executeRead(Environment env, BObject clientObject, Observation observation,
+                                      RetryPolicy.Mode mode, String errorMessage, ClientExecutor.Operation operation) {
+        ClientExecutor executor = (ClientExecutor) clientObject.getNativeData(EXECUTOR);
+        return executor.execute(env, readProvider(clientObject), observation, mode, errorMessage, operation);
+    }
+
+    static ClientProvider readProvider(BObject clientObject) {
+        return ((ReadRouter) clientObject.getNativeData(READ_ROUTER)).next();
+    }
+
+    // Invalidates the cached search results of the collection once the write completes, whether or not it succeeds.
+    private static Object executeWrite(Environment env, BObject clientObject, BMap<String, Object> request,
+                                       Observation observation, RetryPolicy.Mode mode, String errorMessage,
+                                       ClientExecutor.Operation operation) {
+        SearchCache cache = (SearchCache) clientObject.getNativeData(CACHE);
+        BString collectionName = request.getStringValue(COLLECTION_NAME);
+        if (cache == null || collectionName == null) {
+            return execute(env, clientObject, observation, mode, errorMessage, operation);
         }
+        return execute(env, clientObject, observation, mode, errorMessage, client -> {
+            try {
+                return operation.execute(client);
+            } finally {
+                cache.invalidate(collectionName.getValue());
+            }
+        });
+    }
+
+    public static BMap<BString, Object> getReadiness(BObject clientObject) {
+        return ((Warmup) clientObject.getNativeData(WARMUP)).getReadiness();
+    }
+
+    public static BMap<BString, Object> getPoolStatistics(BObject clientObject) {
+        return ((ClientProvider) clientObject.getNativeData(NATIVE_CLIENT)).getStatistics();
+    }
+
+    public static BMap<BString, Object> getSearchCacheStatistics(BObject clientObject) {
+        SearchCache cache = (SearchCache) clientObject.getNativeData(CACHE);
+        return cache != null ? cache.getStatistics() : null;
     }
 }
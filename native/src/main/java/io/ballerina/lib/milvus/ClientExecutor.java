@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.milvus;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.milvus.v2.client.MilvusClientV2;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static io.ballerina.lib.milvus.Utils.createError;
+
+/**
+ * Runs the Milvus operations of a client either on the calling strand or, in the async mode, after yielding the
+ * calling strand so that the blocking gRPC calls do not hold up the Ballerina scheduler.
+ */
+public final class ClientExecutor {
+    public static final BString EXECUTION_MODE = StringUtils.fromString("executionMode");
+    public static final BString ASYNC_WORKERS = StringUtils.fromString("asyncWorkers");
+    private static final String ASYNC_MODE = "ASYNC";
+    private static final String WORKER_THREAD_PREFIX = "milvus-client-worker-";
+
+    private final boolean async;
+    private final ExecutorService workers;
+    private final RetryPolicy retryPolicy;
+
+    private ClientExecutor(boolean async, ExecutorService workers, RetryPolicy retryPolicy) {
+        this.async = async;
+        this.workers = workers;
+        this.retryPolicy = retryPolicy;
+    }
+
+    static ClientExecutor create(BMap<String, Object> config) {
+        RetryPolicy retryPolicy = RetryPolicy.create(config);
+        BString executionMode = config.getStringValue(EXECUTION_MODE);
+        if (executionMode == null || !ASYNC_MODE.equals(executionMode.getValue())) {
+            return new ClientExecutor(false, null, retryPolicy);
+        }
+        Long asyncWorkers = config.getIntValue(ASYNC_WORKERS);
+        if (asyncWorkers == null) {
+            return new ClientExecutor(true, null, retryPolicy);
+        }
+        if (asyncWorkers <= 0) {
+            throw new IllegalArgumentException("Async workers must be positive");
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(asyncWorkers.intValue(), runnable -> {
+            Thread thread = new Thread(runnable, WORKER_THREAD_PREFIX + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        return new ClientExecutor(true, workers, retryPolicy);
+    }
+
+    /**
+     * Executes an operation under the retry policy of the client, where the mode tells whether the operation is safe
+     * to repeat. Each attempt leases its own client.
+     */
+    Object execute(Environment env, ClientProvider provider, Observation observation, RetryPolicy.Mode mode,
+                   String errorMessage, Operation operation) {
+        return run(env, errorMessage, () -> invoke(provider, observation, mode, errorMessage, operation));
+    }
+
+    /**
+     * Executes a task under the retry policy of the client, where the task leases its connections itself, as a search
+     * that joins a batch does. Each attempt runs the task again.
+     */
+    Object execute(Environment env, Observation observation, RetryPolicy.Mode mode, String errorMessage,
+                   Callable<Object> task) {
+        return run(env, errorMessage, () -> invoke(observation, mode, errorMessage, task));
+    }
+
+    /**
+     * Runs a task that makes blocking calls to Milvus in the mode of the client. The task is expected to return the
+     * errors it encounters as values.
+     */
+    Object run(Environment env, String errorMessage, Supplier<Object> task) {
+        if (!async) {
+            return task.get();
+        }
+        // Without dedicated workers the task runs on the strand's own virtual thread once it has yielded.
+        return env.yieldAndRun(() -> workers == null ? task.get() : submit(errorMessage, task));
+    }
+
+    private Object submit(String errorMessage, Supplier<Object> task) {
+        try {
+            return workers.submit(task::get).get();
+        } catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+            return createError(errorMessage, error);
+        } catch (ExecutionException error) {
+            return createError(errorMessage, error.getCause());
+        }
+    }
+
+    /**
+     * Executes an operation under the retry policy of the client on the calling thread, for the work that runs apart
+     * from a strand. The errors are returned as values.
+     */
+    Object invoke(ClientProvider provider, Observation observation, RetryPolicy.Mode mode, String errorMessage,
+                  Operation operation) {
+        return invoke(observation, mode, errorMessage, () -> attempt(provider, operation));
+    }
+
+    private Object invoke(Observation observation, RetryPolicy.Mode mode, String errorMessage,
+                          Callable<Object> task) {
+        try {
+            Object result = retryPolicy.call(mode, observation, task);
+            observation.completed(result);
+            return result;
+        } catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+            observation.failed(error);
+            return createError(errorMessage, error);
+        } catch (Exception error) {
+            observation.failed(error);
+            return createError(errorMessage, error);
+        }
+    }
+
+    private static Object attempt(ClientProvider provider, Operation operation) throws Exception {
+        MilvusClientV2 client = null;
+        try {
+            client = provider.acquire();
+            return operation.execute(client);
+        } finally {
+            if (client != null) {
+                provider.release(client);
+            }
+        }
+    }
+
+    /**
+     * A Milvus operation executed against the native client.
+     */
+    @FunctionalInterface
+    interface Operation {
+        Object execute(MilvusClientV2 client) throws Exception;
+    }
+}
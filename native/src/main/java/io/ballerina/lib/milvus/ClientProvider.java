@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.milvus;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.milvus.pool.MilvusClientV2Pool;
+import io.milvus.pool.PoolConfig;
+import io.milvus.v2.client.ConnectConfig;
+import io.milvus.v2.client.MilvusClientV2;
+import io.milvus.v2.client.RetryConfig;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Leases the native Milvus clients used by the remote operations. A client either shares a single gRPC channel
+ * across all the operations or leases a channel per operation from a pool of {@link MilvusClientV2} instances. The
+ * pooled channels are opened as they are first leased, and so is the single channel when the connection is lazy.
+ */
+public abstract class ClientProvider {
+    public static final BString POOL_CONFIG = StringUtils.fromString("poolConfig");
+    public static final BString MAX_TOTAL = StringUtils.fromString("maxTotal");
+    public static final BString MAX_TOTAL_PER_KEY = StringUtils.fromString("maxTotalPerKey");
+    public static final BString MAX_IDLE_PER_KEY = StringUtils.fromString("maxIdlePerKey");
+    public static final BString MIN_IDLE_PER_KEY = StringUtils.fromString("minIdlePerKey");
+    public static final BString MIN_EVICTABLE_IDLE_TIME = StringUtils.fromString("minEvictableIdleTime");
+    public static final BString EVICTION_INTERVAL = StringUtils.fromString("evictionInterval");
+    public static final BString ACQUIRE_TIMEOUT = StringUtils.fromString("acquireTimeout");
+    public static final BString LAZY_CONNECT = StringUtils.fromString("lazyConnect");
+    private static final String POOL_STATISTICS = "PoolStatistics";
+    private static final String DEFAULT_POOL_KEY = "default";
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder leaseCount = new LongAdder();
+    private final LongAdder acquireTimeoutCount = new LongAdder();
+    private final LongAdder acquireNanos = new LongAdder();
+    private final RetryConfig retryConfig;
+
+    private ClientProvider(RetryConfig retryConfig) {
+        this.retryConfig = retryConfig;
+    }
+
+    /**
+     * Creates the provider of the native clients. The given retry configuration, when not null, replaces the default
+     * retries of the SDK on every client leased. Unless the connection is lazy, the single channel is opened right
+     * away, so that a misconfigured client fails on initialization.
+     */
+    static ClientProvider create(ConnectConfig connectConfig, BMap<?, ?> poolConfig, RetryConfig retryConfig,
+                                 boolean lazyConnect) throws ReflectiveOperationException {
+        if (poolConfig == null) {
+            SingleClientProvider provider = new SingleClientProvider(connectConfig, retryConfig);
+            if (!lazyConnect) {
+                provider.lease();
+            }
+            return provider;
+        }
+        PoolConfig config = PoolConfig.builder()
+                .maxTotal(poolConfig.getIntValue(MAX_TOTAL).intValue())
+                .maxTotalPerKey(poolConfig.getIntValue(MAX_TOTAL_PER_KEY).intValue())
+                .maxIdlePerKey(poolConfig.getIntValue(MAX_IDLE_PER_KEY).intValue())
+                .minIdlePerKey(poolConfig.getIntValue(MIN_IDLE_PER_KEY).intValue())
+                .minEvictableIdleDuration(Duration.ofSeconds(poolConfig.getIntValue(MIN_EVICTABLE_IDLE_TIME)))
+                .evictionPollingInterval(Duration.ofSeconds(poolConfig.getIntValue(EVICTION_INTERVAL)))
+                .maxBlockWaitDuration(Duration.ofSeconds(poolConfig.getIntValue(ACQUIRE_TIMEOUT)))
+                .blockWhenExhausted(true)
+                .build();
+        String key = connectConfig.getDbName() != null ? connectConfig.getDbName() : DEFAULT_POOL_KEY;
+        return new PooledClientProvider(new MilvusClientV2Pool(config, connectConfig), key, config.getMaxTotal(),
+                retryConfig);
+    }
+
+    MilvusClientV2 acquire() {
+        long start = System.nanoTime();
+        try {
+            MilvusClientV2 client = lease();
+            if (retryConfig != null) {
+                client.retryConfig(retryConfig);
+            }
+            inFlight.incrementAndGet();
+            return client;
+        } catch (RuntimeException error) {
+            if (error.getCause() instanceof NoSuchElementException) {
+                acquireTimeoutCount.increment();
+            }
+            throw error;
+        } finally {
+            leaseCount.increment();
+            acquireNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    void release(MilvusClientV2 client) {
+        inFlight.decrementAndGet();
+        giveBack(client);
+    }
+
+    BMap<BString, Object> getStatistics() {
+        long leases = leaseCount.sum();
+        Map<String, Object> statistics = new HashMap<>();
+        statistics.put("activeConnections", (long) activeConnections());
+        statistics.put("idleConnections", (long) idleConnections());
+        statistics.put("maxConnections", (long) maxConnections());
+        statistics.put("inFlightOperations", (long) inFlight.get());
+        statistics.put("leaseCount", leases);
+        statistics.put("acquireTimeoutCount", acquireTimeoutCount.sum());
+        statistics.put("averageAcquireTime", leases == 0 ? 0.0 : acquireNanos.sum() / (leases * 1_000_000.0));
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), POOL_STATISTICS, statistics);
+    }
+
+    int inFlightOperations() {
+        return inFlight.get();
+    }
+
+    abstract MilvusClientV2 lease();
+
+    abstract void giveBack(MilvusClientV2 client);
+
+    abstract int activeConnections();
+
+    abstract int idleConnections();
+
+    abstract int maxConnections();
+
+    private static final class SingleClientProvider extends ClientProvider {
+        private final ConnectConfig connectConfig;
+        private final ReentrantLock connectLock = new ReentrantLock();
+        private volatile MilvusClientV2 client;
+
+        private SingleClientProvider(ConnectConfig connectConfig, RetryConfig retryConfig) {
+            super(retryConfig);
+            this.connectConfig = connectConfig;
+        }
+
+        @Override
+        MilvusClientV2 lease() {
+            MilvusClientV2 connected = client;
+            if (connected != null) {
+                return connected;
+            }
+            // The channel is opened under a lock rather than a monitor, so that the virtual threads waiting on the
+            // connection do not pin their carrier threads.
+            connectLock.lock();
+            try {
+                if (client == null) {
+                    client = new MilvusClientV2(connectConfig);
+                }
+                return client;
+            } finally {
+                connectLock.unlock();
+            }
+        }
+
+        @Override
+        void giveBack(MilvusClientV2 client) {
+        }
+
+        @Override
+        int activeConnections() {
+            return inFlightOperations() > 0 ? 1 : 0;
+        }
+
+        @Override
+        int idleConnections() {
+            return client != null ? 1 - activeConnections() : 0;
+        }
+
+        @Override
+        int maxConnections() {
+            return 1;
+        }
+    }
+
+    private static final class PooledClientProvider extends ClientProvider {
+        private final MilvusClientV2Pool pool;
+        private final String key;
+        private final int maxTotal;
+
+        private PooledClientProvider(MilvusClientV2Pool pool, String key, int maxTotal, RetryConfig retryConfig) {
+            super(retryConfig);
+            this.pool = pool;
+            this.key = key;
+            this.maxTotal = maxTotal;
+        }
+
+        @Override
+        MilvusClientV2 lease() {
+            return pool.getClient(key);
+        }
+
+        @Override
+        void giveBack(MilvusClientV2 client) {
+            pool.returnClient(key, client);
+        }
+
+        @Override
+        int activeConnections() {
+            return pool.getTotalActiveClientNumber();
+        }
+
+        @Override
+        int idleConnections() {
+            return pool.getTotalIdleClientNumber();
+        }
+
+        @Override
+        int maxConnections() {
+            return maxTotal;
+        }
+    }
+}
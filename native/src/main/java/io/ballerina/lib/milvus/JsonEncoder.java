@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.milvus;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Map;
+
+/**
+ * Encodes the Ballerina values straight into the JSON elements of the Milvus SDK, walking each value once. The arrays
+ * of simple values are read element by element without boxing them into a list first, the `decimal` values are
+ * kept as exact JSON numbers, and the records and maps are encoded as JSON objects at any depth.
+ */
+public final class JsonEncoder {
+
+    private JsonEncoder() {
+    }
+
+    static JsonElement encode(Object value) {
+        if (value == null) {
+            return JsonNull.INSTANCE;
+        }
+        if (value instanceof BString stringValue) {
+            return new JsonPrimitive(stringValue.getValue());
+        }
+        if (value instanceof Long || value instanceof Double || value instanceof Integer || value instanceof Byte) {
+            return new JsonPrimitive((Number) value);
+        }
+        if (value instanceof Boolean booleanValue) {
+            return new JsonPrimitive(booleanValue);
+        }
+        if (value instanceof BDecimal decimalValue) {
+            return new JsonPrimitive(decimalValue.decimalValue());
+        }
+        if (value instanceof BArray arrayValue) {
+            return encodeArray(arrayValue);
+        }
+        if (value instanceof BMap<?, ?> mapValue) {
+            return encodeMap(mapValue);
+        }
+        return new JsonPrimitive(value.toString());
+    }
+
+    static JsonObject encodeMap(BMap<?, ?> map) {
+        JsonObject object = new JsonObject();
+        for (Map.Entry<?, ?> field : map.entrySet()) {
+            object.add(fieldName(field.getKey()), encode(field.getValue()));
+        }
+        return object;
+    }
+
+    static JsonArray encodeArray(BArray array) {
+        int size = array.size();
+        JsonArray elements = new JsonArray(size);
+        switch (array.getElementType().getTag()) {
+            case TypeTags.INT_TAG -> {
+                for (int i = 0; i < size; i++) {
+                    elements.add(array.getInt(i));
+                }
+            }
+            case TypeTags.FLOAT_TAG -> {
+                for (int i = 0; i < size; i++) {
+                    elements.add(array.getFloat(i));
+                }
+            }
+            case TypeTags.BOOLEAN_TAG -> {
+                for (int i = 0; i < size; i++) {
+                    elements.add(array.getBoolean(i));
+                }
+            }
+            case TypeTags.BYTE_TAG -> {
+                for (int i = 0; i < size; i++) {
+                    elements.add(Byte.toUnsignedInt(array.getByte(i)));
+                }
+            }
+            case TypeTags.STRING_TAG -> {
+                for (int i = 0; i < size; i++) {
+                    elements.add(array.getBString(i).getValue());
+                }
+            }
+            default -> {
+                for (int i = 0; i < size; i++) {
+                    elements.add(encode(array.get(i)));
+                }
+            }
+        }
+        return elements;
+    }
+
+    // The keys of the Ballerina maps and records are strings that already hold their Java string.
+    static String fieldName(Object key) {
+        return key instanceof BString stringKey ? stringKey.getValue() : String.valueOf(key);
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.milvus;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.ObserverContext;
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import io.ballerina.runtime.observability.metrics.Tag;
+import io.grpc.Status;
+import io.milvus.v2.exception.MilvusClientException;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Records the metrics of a single Milvus operation and tags the tracing span of the remote call that issued it. The
+ * time spent in the gRPC calls is recorded apart from the total time of the operation, and the rest of the time is
+ * recorded as the time spent converting the Ballerina values.
+ * <p>
+ * When the metrics are disabled, the operations get a shared observation that records nothing, so the only cost left
+ * on the hot path is checking whether a payload size is worth estimating.
+ */
+class Observation {
+    private static final String DB_SYSTEM_TAG = "db.system";
+    private static final String DB_OPERATION_TAG = "db.operation";
+    private static final String DB_COLLECTION_TAG = "db.collection.name";
+    private static final String DB_SYSTEM = "milvus";
+    private static final String OPERATION_TAG = "operation";
+    private static final String COLLECTION_TAG = "collection";
+    private static final String STATUS_CODE_TAG = "status_code";
+    // Errors returned before any call to Milvus are the argument validation errors of the connector.
+    private static final String INVALID_ARGUMENT = Status.Code.INVALID_ARGUMENT.name();
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    // The code of the rate limit errors of Milvus, and the deprecated code the older servers report them with.
+    private static final int RATE_LIMIT_CODE = 8;
+    private static final int LEGACY_RATE_LIMIT_CODE = 49;
+
+    private static final Observation NOOP = new Observation();
+    private static final Map<String, Metrics> METRICS = new ConcurrentHashMap<>();
+
+    private Observation() {
+    }
+
+    static Observation start(Environment env, String operation, BString collectionName) {
+        if (ObserveUtils.isTracingEnabled()) {
+            ObserverContext observerContext = ObserveUtils.getObserverContextOfCurrentFrame(env);
+            if (observerContext != null) {
+                observerContext.addTag(DB_SYSTEM_TAG, DB_SYSTEM);
+                observerContext.addTag(DB_OPERATION_TAG, operation);
+                if (collectionName != null) {
+                    observerContext.addTag(DB_COLLECTION_TAG, collectionName.getValue());
+                }
+            }
+        }
+        return start(operation, collectionName);
+    }
+
+    /**
+     * Starts an observation of an operation that runs apart from a strand, which is recorded in the metrics but not
+     * in the traces.
+     */
+    static Observation start(String operation, BString collectionName) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return NOOP;
+        }
+        String collection = collectionName != null ? collectionName.getValue() : null;
+        Metrics metrics = METRICS.computeIfAbsent(operation + '/' + (collection != null ? collection : ""),
+                key -> new Metrics(operation, collection));
+        return new Recording(metrics);
+    }
+
+    /**
+     * Returns whether this observation records anything, so that the payload sizes are only estimated when needed.
+     */
+    boolean isRecording() {
+        return false;
+    }
+
+    /**
+     * Makes a gRPC call to Milvus, timing it apart from the rest of the operation.
+     */
+    <T> T rpc(Supplier<T> call) {
+        return call.get();
+    }
+
+    void rpc(Runnable call) {
+        call.run();
+    }
+
+    void requestSize(long bytes) {
+    }
+
+    void responseSize(long bytes) {
+    }
+
+    void affectedRows(long rows) {
+    }
+
+    void retried() {
+    }
+
+    void hedged() {
+    }
+
+    void completed(Object result) {
+    }
+
+    void failed(Throwable error) {
+    }
+
+    /**
+     * Returns the gRPC status code of an error. The SDK rethrows the gRPC failures as its own exceptions, so the error
+     * code of the SDK is used when the status is not found in the causes of the error.
+     */
+    static String statusCode(Throwable error) {
+        Status.Code code = Status.fromThrowable(error).getCode();
+        if (code != Status.Code.UNKNOWN) {
+            return code.name();
+        }
+        if (error instanceof MilvusClientException milvusError) {
+            // Milvus reports the rate limits in the status of its responses rather than as a gRPC status.
+            if (milvusError.getServerErrCode() == RATE_LIMIT_CODE
+                    || milvusError.getLegacyServerCode() == LEGACY_RATE_LIMIT_CODE) {
+                return Status.Code.RESOURCE_EXHAUSTED.name();
+            }
+            if (milvusError.getErrorCode() != null) {
+                return milvusError.getErrorCode().name();
+            }
+        }
+        return code.name();
+    }
+
+    private static final class Recording extends Observation {
+        private final Metrics metrics;
+        private final long startTime = System.nanoTime();
+        // The hedged attempts of an operation make their gRPC calls concurrently.
+        private final LongAdder rpcTime = new LongAdder();
+
+        private Recording(Metrics metrics) {
+            this.metrics = metrics;
+        }
+
+        @Override
+        boolean isRecording() {
+            return true;
+        }
+
+        @Override
+        <T> T rpc(Supplier<T> call) {
+            long rpcStartTime = System.nanoTime();
+            try {
+                return call.get();
+            } finally {
+                rpcTime.add(System.nanoTime() - rpcStartTime);
+            }
+        }
+
+        @Override
+        void rpc(Runnable call) {
+            long rpcStartTime = System.nanoTime();
+            try {
+                call.run();
+            } finally {
+                rpcTime.add(System.nanoTime() - rpcStartTime);
+            }
+        }
+
+        @Override
+        void requestSize(long bytes) {
+            metrics.requestSize.setValue(bytes);
+        }
+
+        @Override
+        void responseSize(long bytes) {
+            metrics.responseSize.setValue(bytes);
+        }
+
+        @Override
+        void affectedRows(long rows) {
+            metrics.affectedRows.increment(rows);
+        }
+
+        @Override
+        void retried() {
+            metrics.retries.increment();
+        }
+
+        @Override
+        void hedged() {
+            metrics.hedges.increment();
+        }
+
+        @Override
+        void completed(Object result) {
+            record();
+            if (result instanceof BError) {
+                metrics.errors(INVALID_ARGUMENT).increment();
+            }
+        }
+
+        @Override
+        void failed(Throwable error) {
+            record();
+            metrics.errors(statusCode(error)).increment();
+        }
+
+        private void record() {
+            long responseTime = System.nanoTime() - startTime;
+            long totalRpcTime = rpcTime.sum();
+            metrics.requests.increment();
+            metrics.responseTime.setValue(responseTime / NANOS_PER_SECOND);
+            metrics.rpcTime.setValue(totalRpcTime / NANOS_PER_SECOND);
+            metrics.conversionTime.setValue(Math.max(responseTime - totalRpcTime, 0) / NANOS_PER_SECOND);
+        }
+    }
+
+    /**
+     * The metrics of an operation on a collection, looked up from the registry only once.
+     */
+    private static final class Metrics {
+        private final Set<Tag> tags;
+        private final Counter requests;
+        private final Gauge responseTime;
+        private final Gauge rpcTime;
+        private final Gauge conversionTime;
+        private final Gauge requestSize;
+        private final Gauge responseSize;
+        private final Counter affectedRows;
+        private final Counter retries;
+        private final Counter hedges;
+        private final Map<String, Counter> errors = new ConcurrentHashMap<>();
+
+        private Metrics(String operation, String collection) {
+            tags = new HashSet<>();
+            tags.add(new Tag(OPERATION_TAG, operation));
+            if (collection != null) {
+                tags.add(new Tag(COLLECTION_TAG, collection));
+            }
+            MetricRegistry registry = DefaultMetricRegistry.getInstance();
+            requests = registry.counter(new MetricId("milvus_client_requests_total",
+                    "Total number of operations sent to Milvus", tags));
+            responseTime = registry.gauge(new MetricId("milvus_client_response_time_seconds",
+                    "Total time taken by the operations", tags), StatisticConfig.DEFAULT);
+            rpcTime = registry.gauge(new MetricId("milvus_client_rpc_time_seconds",
+                    "Time spent in the gRPC calls of the operations", tags), StatisticConfig.DEFAULT);
+            conversionTime = registry.gauge(new MetricId("milvus_client_conversion_time_seconds",
+                    "Time spent converting the values of the operations", tags), StatisticConfig.DEFAULT);
+            requestSize = registry.gauge(new MetricId("milvus_client_request_size_bytes",
+                    "Estimated payload size of the requests", tags), StatisticConfig.DEFAULT);
+            responseSize = registry.gauge(new MetricId("milvus_client_response_size_bytes",
+                    "Estimated payload size of the responses", tags), StatisticConfig.DEFAULT);
+            affectedRows = registry.counter(new MetricId("milvus_client_affected_rows_total",
+                    "Total number of rows upserted or deleted", tags));
+            retries = registry.counter(new MetricId("milvus_client_retries_total",
+                    "Total number of attempts retried after a transient failure", tags));
+            hedges = registry.counter(new MetricId("milvus_client_hedges_total",
+                    "Total number of hedged search attempts", tags));
+        }
+
+        private Counter errors(String statusCode) {
+            return errors.computeIfAbsent(statusCode, code -> {
+                Set<Tag> errorTags = new HashSet<>(tags);
+                errorTags.add(new Tag(STATUS_CODE_TAG, code));
+                return DefaultMetricRegistry.getInstance().counter(new MetricId("milvus_client_errors_total",
+                        "Total number of failed operations by status code", errorTags));
+            });
+        }
+    }
+}
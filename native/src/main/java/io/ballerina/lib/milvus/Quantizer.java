@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.milvus;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import static io.ballerina.lib.milvus.Utils.createError;
+
+/**
+ * Quantizes the `float[]` vectors on the client into the packed bytes of the compact vector types, in plain loops
+ * over the primitive arrays of the vectors. The binary vectors keep a bit per dimension, set when the dimension is
+ * above the threshold, with the first dimension in the most significant bit of the first byte. The int8 vectors keep
+ * a two's complement byte per dimension, and the float16 and bfloat16 vectors two little-endian bytes per dimension.
+ */
+public final class Quantizer {
+    private static final BString THRESHOLD = StringUtils.fromString("threshold");
+    private static final BString SCALE = StringUtils.fromString("scale");
+    private static final ArrayType BYTE_ARRAYS =
+            TypeCreator.createArrayType(TypeCreator.createArrayType(PredefinedTypes.TYPE_BYTE));
+    private static final String QUANTIZE_ERROR = "Failed to quantize the vectors";
+
+    private Quantizer() {
+    }
+
+    public static Object quantize(BArray vector, BString vectorType, BMap<BString, Object> options) {
+        try {
+            double[] values = Utils.floatArray(vector);
+            double scale = int8Scale(options, maxAbs(values, 0));
+            return ValueCreator.createArrayValue(quantize(values, vectorType.getValue(), options, scale));
+        } catch (IllegalArgumentException error) {
+            return createError(QUANTIZE_ERROR, error);
+        }
+    }
+
+    /**
+     * Quantizes an array of vectors. The int8 vectors are all scaled by the same factor, so that the distances
+     * between them stay comparable.
+     */
+    public static Object quantizeAll(BArray vectors, BString vectorType, BMap<BString, Object> options) {
+        try {
+            double[][] values = new double[vectors.size()][];
+            double maxAbs = 0;
+            for (int i = 0; i < values.length; i++) {
+                values[i] = Utils.floatArray((BArray) vectors.get(i));
+                maxAbs = maxAbs(values[i], maxAbs);
+            }
+            double scale = int8Scale(options, maxAbs);
+            Object[] quantized = new Object[values.length];
+            for (int i = 0; i < values.length; i++) {
+                quantized[i] = ValueCreator.createArrayValue(
+                        quantize(values[i], vectorType.getValue(), options, scale));
+            }
+            return ValueCreator.createArrayValue(quantized, BYTE_ARRAYS);
+        } catch (IllegalArgumentException error) {
+            return createError(QUANTIZE_ERROR, error);
+        }
+    }
+
+    static byte[] quantize(double[] vector, String vectorType, BMap<BString, Object> options, double scale) {
+        return switch (vectorType) {
+            case VectorEncoder.BINARY_VECTOR -> toBinary(vector, options.getFloatValue(THRESHOLD));
+            case VectorEncoder.INT8_VECTOR -> toInt8(vector, scale);
+            case VectorEncoder.FLOAT16_VECTOR -> VectorEncoder.toFloat16Bytes(vector);
+            case VectorEncoder.BFLOAT16_VECTOR -> VectorEncoder.toBFloat16Bytes(vector);
+            default -> throw new IllegalArgumentException("Vectors cannot be quantized into " + vectorType);
+        };
+    }
+
+    static byte[] toBinary(double[] vector, double threshold) {
+        byte[] bits = new byte[(vector.length + Byte.SIZE - 1) / Byte.SIZE];
+        for (int i = 0; i < vector.length; i++) {
+            if (vector[i] > threshold) {
+                bits[i >>> 3] |= (byte) (0x80 >>> (i & 7));
+            }
+        }
+        return bits;
+    }
+
+    static byte[] toInt8(double[] vector, double scale) {
+        byte[] values = new byte[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            long value = Math.round(vector[i] * scale);
+            values[i] = (byte) Math.max(Byte.MIN_VALUE, Math.min(Byte.MAX_VALUE, value));
+        }
+        return values;
+    }
+
+    // When no scale is given, the largest absolute dimension is mapped to the largest int8 value.
+    private static double int8Scale(BMap<BString, Object> options, double maxAbs) {
+        Double scale = options.getFloatValue(SCALE);
+        if (scale != null) {
+            if (!(scale > 0) || Double.isInfinite(scale)) {
+                throw new IllegalArgumentException("Scale must be a positive finite float");
+            }
+            return scale;
+        }
+        return maxAbs > 0 ? Byte.MAX_VALUE / maxAbs : 1;
+    }
+
+    private static double maxAbs(double[] vector, double maxAbs) {
+        for (double value : vector) {
+            maxAbs = Math.max(maxAbs, Math.abs(value));
+        }
+        return maxAbs;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.milvus;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routes the read-only operations of a client, which are the searches and the queries, to the read endpoints of the
+ * client in turn, so that they do not compete with the writes for the connections of the service URL. Without read
+ * endpoints, the reads share the connections of the writes.
+ */
+public final class ReadRouter {
+    public static final BString READ_ENDPOINTS = StringUtils.fromString("readEndpoints");
+
+    private final ClientProvider[] providers;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private ReadRouter(ClientProvider[] providers) {
+        this.providers = providers;
+    }
+
+    static ReadRouter create(ClientProvider primary, List<ClientProvider> readProviders) {
+        if (readProviders.isEmpty()) {
+            return new ReadRouter(new ClientProvider[]{primary});
+        }
+        return new ReadRouter(readProviders.toArray(new ClientProvider[0]));
+    }
+
+    /**
+     * Returns the provider of the connections for the next read.
+     */
+    ClientProvider next() {
+        if (providers.length == 1) {
+            return providers[0];
+        }
+        return providers[Math.floorMod(next.getAndIncrement(), providers.length)];
+    }
+
+    /**
+     * Returns the providers of the connections of all the reads.
+     */
+    List<ClientProvider> providers() {
+        return List.of(providers);
+    }
+}
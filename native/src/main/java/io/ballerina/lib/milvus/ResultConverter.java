@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.milvus;
+
+import com.google.gson.JsonElement;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.milvus.v2.service.vector.response.QueryResp;
+import io.milvus.v2.service.vector.response.SearchResp;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.lib.milvus.Client.PRIMARY_KEY;
+import static io.ballerina.lib.milvus.Client.SEARCH_ID;
+import static io.ballerina.lib.milvus.Client.SEARCH_RESULT;
+import static io.ballerina.lib.milvus.Client.SIMILARITY_SCORE;
+
+/**
+ * Converts the results returned by the Milvus SDK into Ballerina values. A converter interns the field names it
+ * comes across, so a single instance should be used for all the results of a response.
+ */
+public final class ResultConverter {
+    public static final BString OUTPUT_FIELDS = StringUtils.fromString("outputFields");
+
+    private final Map<String, BString> fieldNames = new HashMap<>();
+
+    static BArray toSearchResults(List<List<SearchResp.SearchResult>> searchResults) {
+        ResultConverter converter = new ResultConverter();
+        Object[] resultArrays = new Object[searchResults.size()];
+        int index = 0;
+        for (List<SearchResp.SearchResult> results : searchResults) {
+            resultArrays[index++] = converter.toSearchResultArray(results);
+        }
+        return ValueCreator.createArrayValue(resultArrays, Types.SEARCH_RESULT_ARRAYS);
+    }
+
+    static BArray toEntities(List<QueryResp.QueryResult> queryResults) {
+        ResultConverter converter = new ResultConverter();
+        Object[] entities = new Object[queryResults.size()];
+        int index = 0;
+        for (QueryResp.QueryResult result : queryResults) {
+            entities[index++] = converter.toEntity(result.getEntity());
+        }
+        return ValueCreator.createArrayValue(entities, Types.ANYDATA_MAP_ARRAY);
+    }
+
+    BArray toSearchResultArray(List<SearchResp.SearchResult> results) {
+        Object[] records = new Object[results.size()];
+        int index = 0;
+        for (SearchResp.SearchResult result : results) {
+            records[index++] = toSearchResult(result);
+        }
+        return ValueCreator.createArrayValue(records, Types.SEARCH_RESULT_ARRAY);
+    }
+
+    BMap<BString, Object> toSearchResult(SearchResp.SearchResult result) {
+        BMap<BString, Object> record = ValueCreator.createRecordValue(ModuleUtils.getModule(), SEARCH_RESULT);
+        record.put(PRIMARY_KEY, fieldName(result.getPrimaryKey()));
+        record.put(SEARCH_ID, result.getId());
+        record.put(SIMILARITY_SCORE, result.getScore().doubleValue());
+        // The entity only carries values when output fields are requested, so the map is skipped otherwise.
+        Map<String, Object> entity = result.getEntity();
+        if (entity != null && !entity.isEmpty()) {
+            record.put(OUTPUT_FIELDS, toEntity(entity));
+        }
+        return record;
+    }
+
+    BMap<BString, Object> toEntity(Map<String, Object> entity) {
+        BMap<BString, Object> fields = ValueCreator.createMapValue(Types.ANYDATA_MAP);
+        for (Map.Entry<String, Object> field : entity.entrySet()) {
+            fields.put(fieldName(field.getKey()), toBallerinaValue(field.getValue()));
+        }
+        return fields;
+    }
+
+    private BString fieldName(String name) {
+        return fieldNames.computeIfAbsent(name, StringUtils::fromString);
+    }
+
+    private Object toBallerinaValue(Object value) {
+        if (value == null || value instanceof Long || value instanceof Double || value instanceof Boolean) {
+            return value;
+        }
+        if (value instanceof String stringValue) {
+            return StringUtils.fromString(stringValue);
+        }
+        if (value instanceof Float floatValue) {
+            return floatValue.doubleValue();
+        }
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        if (value instanceof List<?> list) {
+            return toArray(list);
+        }
+        if (value instanceof Map<?, ?> map) {
+            BMap<BString, Object> mapValue = ValueCreator.createMapValue(Types.ANYDATA_MAP);
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                mapValue.put(fieldName(String.valueOf(entry.getKey())), toBallerinaValue(entry.getValue()));
+            }
+            return mapValue;
+        }
+        if (value instanceof ByteBuffer buffer) {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.duplicate().get(bytes);
+            return ValueCreator.createArrayValue(bytes);
+        }
+        if (value instanceof JsonElement json) {
+            return JsonUtils.parse(json.toString());
+        }
+        return StringUtils.fromString(value.toString());
+    }
+
+    private BArray toArray(List<?> list) {
+        // Vectors are returned as lists of floats, so they get a primitive array instead of boxed elements.
+        if (!list.isEmpty() && list.get(0) instanceof Float) {
+            double[] values = new double[list.size()];
+            int index = 0;
+            for (Object element : list) {
+                values[index++] = ((Number) element).doubleValue();
+            }
+            return ValueCreator.createArrayValue(values);
+        }
+        Object[] values = new Object[list.size()];
+        int index = 0;
+        for (Object element : list) {
+            values[index++] = toBallerinaValue(element);
+        }
+        return ValueCreator.createArrayValue(values, Types.ANYDATA_ARRAY);
+    }
+
+    /**
+     * Holds the types used by the converted values. The types are resolved once, on first use, which happens only
+     * after the module is initialized.
+     */
+    private static final class Types {
+        private static final Type SEARCH_RESULT_TYPE =
+                ValueCreator.createRecordValue(ModuleUtils.getModule(), SEARCH_RESULT).getType();
+        private static final ArrayType SEARCH_RESULT_ARRAY = TypeCreator.createArrayType(SEARCH_RESULT_TYPE);
+        private static final ArrayType SEARCH_RESULT_ARRAYS = TypeCreator.createArrayType(SEARCH_RESULT_ARRAY);
+        private static final MapType ANYDATA_MAP = TypeCreator.createMapType(PredefinedTypes.TYPE_ANYDATA);
+        private static final ArrayType ANYDATA_MAP_ARRAY = TypeCreator.createArrayType(ANYDATA_MAP);
+        private static final ArrayType ANYDATA_ARRAY = TypeCreator.createArrayType(PredefinedTypes.TYPE_ANYDATA);
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.milvus;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.milvus.orm.iterator.QueryIterator;
+import io.milvus.orm.iterator.SearchIteratorV2;
+import io.milvus.response.QueryResultsWrapper;
+import io.milvus.v2.client.MilvusClientV2;
+import io.milvus.v2.service.vector.response.SearchResp;
+
+import java.lang.ref.Cleaner;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+
+import static io.ballerina.lib.milvus.Client.EXECUTOR;
+import static io.ballerina.lib.milvus.Utils.createError;
+
+/**
+ * Backs the result streams of the query and search iterators. Only the current page of results is held, and each
+ * row is converted into a Ballerina value only when the stream reaches it.
+ * <p>
+ * An iterator keeps its native client leased until it is exhausted or closed, as the pages are fetched through the
+ * client that opened it. A stream that is abandoned before either gives the client back once its iterator object is
+ * garbage collected, so that it does not hold a pooled connection for good.
+ *
+ * @param <T> the type of the rows returned by the Milvus SDK
+ */
+public final class ResultIterator<T> {
+    private static final String NATIVE_ITERATOR = "iterator";
+    private static final String NEXT_PAGE_ERROR = "Failed to fetch the next page of results";
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final ClientExecutor executor;
+    private final ClientProvider provider;
+    private final MilvusClientV2 client;
+    private final String operation;
+    private final BString collectionName;
+    private final Source<T> source;
+    private final ResultConverter converter = new ResultConverter();
+    // Guards the page and the state of the source. A lock rather than a monitor, so that the virtual threads
+    // fetching a page do not pin their carrier threads while waiting on Milvus.
+    private final ReentrantLock lock = new ReentrantLock();
+    private Cleaner.Cleanable cleanable;
+    private List<T> page = List.of();
+    private int index;
+    private boolean closed;
+
+    private ResultIterator(ClientExecutor executor, ClientProvider provider, MilvusClientV2 client,
+                           String operation, BString collectionName, Source<T> source) {
+        this.executor = executor;
+        this.provider = provider;
+        this.client = client;
+        this.operation = operation;
+        this.collectionName = collectionName;
+        this.source = source;
+    }
+
+    /**
+     * Opens an iterator through a leased client. The opening and every page fetched afterwards are observed as the
+     * given operation on the collection.
+     */
+    static Object open(Environment env, BObject clientObject, BObject iteratorObject, String operation,
+                       BString collectionName, String errorMessage,
+                       BiFunction<MilvusClientV2, Observation, Source<?>> sourceFactory) {
+        ClientProvider provider = Client.readProvider(clientObject);
+        ClientExecutor executor = (ClientExecutor) clientObject.getNativeData(EXECUTOR);
+        Observation observation = Observation.start(env, operation, collectionName);
+        return executor.run(env, errorMessage, () -> {
+            MilvusClientV2 client = null;
+            try {
+                client = provider.acquire();
+                Source<?> source = sourceFactory.apply(client, observation);
+                ResultIterator<?> iterator =
+                        new ResultIterator<>(executor, provider, client, operation, collectionName, source);
+                // The cleanup must not refer to the iterator object, or the object would never become unreachable.
+                iterator.cleanable = CLEANER.register(iteratorObject, iterator::release);
+                iteratorObject.addNativeData(NATIVE_ITERATOR, iterator);
+                observation.completed(null);
+                return null;
+            } catch (Exception error) {
+                if (client != null) {
+                    provider.release(client);
+                }
+                observation.failed(error);
+                return createError(errorMessage, error);
+            }
+        });
+    }
+
+    public static Object next(Environment env, BObject iteratorObject) {
+        ResultIterator<?> iterator = (ResultIterator<?>) iteratorObject.getNativeData(NATIVE_ITERATOR);
+        return iterator.next(env);
+    }
+
+    public static Object close(BObject iteratorObject) {
+        ResultIterator<?> iterator = (ResultIterator<?>) iteratorObject.getNativeData(NATIVE_ITERATOR);
+        try {
+            iterator.close();
+            return null;
+        } catch (RuntimeException error) {
+            return createError("Failed to close the result iterator", error);
+        }
+    }
+
+    private Object next(Environment env) {
+        lock.lock();
+        try {
+            if (closed) {
+                return null;
+            }
+            if (index < page.size()) {
+                return source.convert(converter, page.get(index++));
+            }
+        } finally {
+            lock.unlock();
+        }
+        // Only fetching a new page calls Milvus, so the strand yields and is observed just for that.
+        Observation observation = Observation.start(env, operation, collectionName);
+        return executor.run(env, NEXT_PAGE_ERROR, () -> nextPage(observation));
+    }
+
+    private Object nextPage(Observation observation) {
+        lock.lock();
+        try {
+            if (closed) {
+                return null;
+            }
+            // Another strand may have fetched the page while this one was yielding.
+            if (index < page.size()) {
+                return source.convert(converter, page.get(index++));
+            }
+            page = observation.rpc(source::fetch);
+            index = 0;
+            observation.completed(null);
+            if (page.isEmpty()) {
+                close();
+                return null;
+            }
+            return source.convert(converter, page.get(index++));
+        } catch (RuntimeException error) {
+            observation.failed(error);
+            close();
+            return createError(NEXT_PAGE_ERROR, error);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void close() {
+        cleanable.clean();
+    }
+
+    // Runs at most once, either when the iterator is closed or exhausted, or when its object is garbage collected.
+    private void release() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            page = List.of();
+            try {
+                source.close();
+            } finally {
+                provider.release(client);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * A paged source of rows opened by the Milvus SDK.
+     *
+     * @param <T> the type of the rows of the source
+     */
+    interface Source<T> {
+        List<T> fetch();
+
+        Object convert(ResultConverter converter, T row);
+
+        void close();
+    }
+
+    static Source<QueryResultsWrapper.RowRecord> querySource(QueryIterator iterator) {
+        return new Source<>() {
+            @Override
+            public List<QueryResultsWrapper.RowRecord> fetch() {
+                return iterator.next();
+            }
+
+            @Override
+            public Object convert(ResultConverter converter, QueryResultsWrapper.RowRecord row) {
+                return converter.toEntity(row.getFieldValues());
+            }
+
+            @Override
+            public void close() {
+                iterator.close();
+            }
+        };
+    }
+
+    static Source<SearchResp.SearchResult> searchSource(SearchIteratorV2 iterator) {
+        return new Source<>() {
+            @Override
+            public List<SearchResp.SearchResult> fetch() {
+                return iterator.next();
+            }
+
+            @Override
+            public Object convert(ResultConverter converter, SearchResp.SearchResult row) {
+                return converter.toSearchResult(row);
+            }
+
+            @Override
+            public void close() {
+                iterator.close();
+            }
+        };
+    }
+}
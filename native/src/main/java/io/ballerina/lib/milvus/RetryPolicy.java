@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.milvus;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.grpc.Status;
+import io.milvus.v2.client.RetryConfig;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Applies the resilience policy of a client to the attempts of its operations. The idempotent operations are retried
+ * with an exponential backoff when they fail with one of the retryable status codes, the searches are hedged with a
+ * second attempt once they take longer than the configured percentile of the recent search latencies, and every
+ * operation is abandoned once its deadline budget is spent.
+ * <p>
+ * The deadline and the hedges need the attempts to run apart from the caller, so that the caller can stop waiting
+ * for them. Without either, the attempts run on the calling thread as they are.
+ */
+public final class RetryPolicy {
+    public static final BString RETRY_CONFIG = StringUtils.fromString("retryConfig");
+    public static final BString COUNT = StringUtils.fromString("count");
+    public static final BString INTERVAL = StringUtils.fromString("interval");
+    public static final BString BACK_OFF_FACTOR = StringUtils.fromString("backOffFactor");
+    public static final BString MAX_WAIT_INTERVAL = StringUtils.fromString("maxWaitInterval");
+    public static final BString STATUS_CODES = StringUtils.fromString("statusCodes");
+    public static final BString HEDGING_CONFIG = StringUtils.fromString("hedgingConfig");
+    public static final BString PERCENTILE = StringUtils.fromString("percentile");
+    public static final BString MIN_DELAY = StringUtils.fromString("minDelay");
+    public static final BString CALL_DEADLINE = StringUtils.fromString("callDeadline");
+    private static final String ATTEMPT_THREAD_PREFIX = "milvus-client-attempt-";
+    private static final ExecutorService ATTEMPTS =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(ATTEMPT_THREAD_PREFIX, 0).factory());
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private final int retryCount;
+    private final long intervalNanos;
+    private final double backOffFactor;
+    private final long maxWaitNanos;
+    private final Set<String> statusCodes;
+    private final LatencyWindow searchLatencies;
+    private final long callDeadlineNanos;
+
+    private RetryPolicy(int retryCount, long intervalNanos, double backOffFactor, long maxWaitNanos,
+                        Set<String> statusCodes, LatencyWindow searchLatencies, long callDeadlineNanos) {
+        this.retryCount = retryCount;
+        this.intervalNanos = intervalNanos;
+        this.backOffFactor = backOffFactor;
+        this.maxWaitNanos = maxWaitNanos;
+        this.statusCodes = statusCodes;
+        this.searchLatencies = searchLatencies;
+        this.callDeadlineNanos = callDeadlineNanos;
+    }
+
+    static RetryPolicy create(BMap<String, Object> config) {
+        BMap<?, ?> retryConfig = config.getMapValue(RETRY_CONFIG);
+        BMap<?, ?> hedgingConfig = config.getMapValue(HEDGING_CONFIG);
+        Long callDeadline = config.getIntValue(CALL_DEADLINE);
+        if (callDeadline != null && callDeadline <= 0) {
+            throw new IllegalArgumentException("Call deadline must be positive");
+        }
+        long callDeadlineNanos = callDeadline != null ? TimeUnit.MILLISECONDS.toNanos(callDeadline) : 0;
+        LatencyWindow searchLatencies = hedgingConfig != null ? LatencyWindow.create(hedgingConfig) : null;
+        if (retryConfig == null) {
+            return new RetryPolicy(0, 0, 1, 0, Set.of(), searchLatencies, callDeadlineNanos);
+        }
+        long count = retryConfig.getIntValue(COUNT);
+        long interval = retryConfig.getIntValue(INTERVAL);
+        double backOffFactor = retryConfig.getFloatValue(BACK_OFF_FACTOR);
+        long maxWaitInterval = retryConfig.getIntValue(MAX_WAIT_INTERVAL);
+        if (count < 0 || count > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Retry count must be a non-negative int");
+        }
+        if (interval < 0 || maxWaitInterval < 0 || backOffFactor < 1) {
+            throw new IllegalArgumentException(
+                    "Retry intervals cannot be negative and the back off factor cannot be less than 1");
+        }
+        BArray codes = retryConfig.getArrayValue(STATUS_CODES);
+        Set<String> statusCodes = new HashSet<>(Arrays.asList(codes.getStringArray()));
+        return new RetryPolicy((int) count, TimeUnit.MILLISECONDS.toNanos(interval), backOffFactor,
+                TimeUnit.MILLISECONDS.toNanos(maxWaitInterval), statusCodes, searchLatencies, callDeadlineNanos);
+    }
+
+    /**
+     * Returns the retry configuration of the SDK clients. When the client retries the operations itself, the SDK
+     * makes a single attempt per call, so that the retries of the two do not multiply. Otherwise the SDK retries as
+     * it does by default.
+     */
+    static RetryConfig toSdkRetryConfig(BMap<String, Object> config) {
+        return config.getMapValue(RETRY_CONFIG) != null ? RetryConfig.builder().maxRetryTimes(1).build() : null;
+    }
+
+    Object call(Mode mode, Observation observation, Callable<Object> attempt) throws Exception {
+        long deadline = callDeadlineNanos > 0 ? System.nanoTime() + callDeadlineNanos : NO_DEADLINE;
+        long backOff = intervalNanos;
+        int retries = 0;
+        while (true) {
+            try {
+                return attempt(mode, observation, attempt, deadline);
+            } catch (Exception error) {
+                if (mode == Mode.NO_RETRY || retries >= retryCount
+                        || !statusCodes.contains(Observation.statusCode(error))) {
+                    throw error;
+                }
+                // The back off is jittered so that the clients failed by the same outage do not retry in lockstep.
+                long wait = Math.min(backOff, maxWaitNanos);
+                wait = wait / 2 + ThreadLocalRandom.current().nextLong(wait / 2 + 1);
+                if (deadline != NO_DEADLINE && System.nanoTime() + wait >= deadline) {
+                    throw error;
+                }
+                TimeUnit.NANOSECONDS.sleep(wait);
+                backOff = (long) Math.min(backOff * backOffFactor, maxWaitNanos);
+                retries++;
+                observation.retried();
+            }
+        }
+    }
+
+    private Object attempt(Mode mode, Observation observation, Callable<Object> attempt, long deadline)
+            throws Exception {
+        boolean hedged = mode == Mode.RETRY_AND_HEDGE && searchLatencies != null;
+        if (!hedged) {
+            return deadline == NO_DEADLINE ? attempt.call() : await(start(attempt), deadline);
+        }
+        long start = System.nanoTime();
+        CompletableFuture<Object> primary = start(attempt);
+        primary.thenRun(() -> searchLatencies.record(System.nanoTime() - start));
+        long hedgeDelay = searchLatencies.hedgeDelay();
+        if (hedgeDelay == NO_DEADLINE) {
+            return await(primary, deadline);
+        }
+        long hedgeAt = start + hedgeDelay;
+        try {
+            return primary.get(Math.min(hedgeAt, deadline) - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException timeout) {
+            if (hedgeAt >= deadline) {
+                throw deadlineExceeded();
+            }
+        } catch (ExecutionException error) {
+            throw unwrap(error);
+        }
+        observation.hedged();
+        return await(firstSuccessOf(primary, start(attempt)), deadline);
+    }
+
+    private static CompletableFuture<Object> start(Callable<Object> attempt) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        ATTEMPTS.execute(() -> {
+            try {
+                future.complete(attempt.call());
+            } catch (Throwable error) {
+                future.completeExceptionally(error);
+            }
+        });
+        return future;
+    }
+
+    // Completes with the first attempt that succeeds, or with the error of the last one when both fail.
+    private static CompletableFuture<Object> firstSuccessOf(CompletableFuture<Object> primary,
+                                                            CompletableFuture<Object> hedge) {
+        CompletableFuture<Object> first = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        for (CompletableFuture<Object> attempt : List.of(primary, hedge)) {
+            attempt.whenComplete((result, error) -> {
+                if (error == null) {
+                    first.complete(result);
+                } else if (failures.incrementAndGet() == 2) {
+                    first.completeExceptionally(error);
+                }
+            });
+        }
+        return first;
+    }
+
+    private static Object await(CompletableFuture<Object> future, long deadline) throws Exception {
+        try {
+            if (deadline == NO_DEADLINE) {
+                return future.get();
+            }
+            return future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException timeout) {
+            // The abandoned attempt still runs to completion and then releases its connection.
+            throw deadlineExceeded();
+        } catch (ExecutionException error) {
+            throw unwrap(error);
+        }
+    }
+
+    private static Exception unwrap(ExecutionException error) {
+        return error.getCause() instanceof Exception cause ? cause : error;
+    }
+
+    private static Exception deadlineExceeded() {
+        return Status.DEADLINE_EXCEEDED.withDescription("Call deadline exceeded").asRuntimeException();
+    }
+
+    /**
+     * How the attempts of an operation may be repeated.
+     */
+    enum Mode {
+        NO_RETRY,
+        RETRY,
+        RETRY_AND_HEDGE
+    }
+
+    /**
+     * Keeps the latencies of the recent searches, and the hedge delay derived from them. The delay is recomputed
+     * after every few searches, not on every search.
+     */
+    private static final class LatencyWindow {
+        private static final int SIZE = 256;
+        private static final int RECOMPUTE_INTERVAL = 32;
+
+        private final double percentile;
+        private final long minDelayNanos;
+        private final long[] latencies = new long[SIZE];
+        private int next;
+        private int recorded;
+        private volatile long hedgeDelay = NO_DEADLINE;
+
+        private LatencyWindow(double percentile, long minDelayNanos) {
+            this.percentile = percentile;
+            this.minDelayNanos = minDelayNanos;
+        }
+
+        static LatencyWindow create(BMap<?, ?> config) {
+            double percentile = config.getFloatValue(PERCENTILE);
+            long minDelay = config.getIntValue(MIN_DELAY);
+            if (percentile <= 0 || percentile >= 100) {
+                throw new IllegalArgumentException("Hedging percentile must be between 0 and 100");
+            }
+            if (minDelay < 0) {
+                throw new IllegalArgumentException("Hedging min delay cannot be negative");
+            }
+            return new LatencyWindow(percentile, TimeUnit.MILLISECONDS.toNanos(minDelay));
+        }
+
+        /**
+         * Returns the delay after which a search is hedged, which stays unset until enough searches are recorded.
+         */
+        long hedgeDelay() {
+            return hedgeDelay;
+        }
+
+        synchronized void record(long latency) {
+            latencies[next] = latency;
+            next = (next + 1) % SIZE;
+            recorded++;
+            if (recorded % RECOMPUTE_INTERVAL == 0) {
+                recorded = Math.min(recorded, SIZE);
+                long[] sorted = Arrays.copyOf(latencies, recorded);
+                Arrays.sort(sorted);
+                int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+                hedgeDelay = Math.max(sorted[Math.max(index, 0)], minDelayNanos);
+            }
+        }
+    }
+}
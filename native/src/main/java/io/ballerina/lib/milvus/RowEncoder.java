@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.milvus;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.SortedMap;
+
+import static io.ballerina.lib.milvus.Client.ID;
+import static io.ballerina.lib.milvus.Client.ID_FIELD;
+import static io.ballerina.lib.milvus.Client.SPARSE_VECTOR;
+import static io.ballerina.lib.milvus.Client.SPARSE_VECTOR_COLUMN;
+import static io.ballerina.lib.milvus.Client.SPARSE_VECTOR_FIELD;
+import static io.ballerina.lib.milvus.Client.VECTOR;
+import static io.ballerina.lib.milvus.Client.VECTORS;
+import static io.ballerina.lib.milvus.Client.VECTORS_FIELD;
+import static io.ballerina.lib.milvus.Utils.applyDynamicFields;
+
+/**
+ * Encodes the Ballerina upsert entries into the JSON rows accepted by the Milvus SDK. The dense vector of an entry is
+ * stored in the `vector` field and its sparse vector, if any, in the `sparse_vector` field. The SDK takes the float
+ * vectors as arrays of floats and the binary, int8, float16 and bfloat16 vectors as arrays of their packed bytes.
+ */
+public final class RowEncoder {
+    private RowEncoder() {
+    }
+
+    static JsonObject encode(BMap<?, ?> data, String vectorType) {
+        JsonObject row = new JsonObject();
+        row.add(VECTOR, encodeVector((BArray) data.get(VECTORS), vectorType));
+        row.addProperty(ID_FIELD, data.getIntValue(ID));
+        BMap<?, ?> sparseVector = data.getMapValue(SPARSE_VECTOR);
+        if (sparseVector != null) {
+            row.add(SPARSE_VECTOR_COLUMN, encodeSparseVector(VectorEncoder.toSparseMap(sparseVector)));
+        }
+        applyDynamicFields(data, row, ID_FIELD);
+        return row;
+    }
+
+    /**
+     * Encodes an entry that is already in JSON, which has the same shape as the Ballerina upsert entries. The float16
+     * and bfloat16 vectors are given as floats, and the binary and int8 vectors as their packed bytes.
+     */
+    static JsonObject encode(JsonObject data, String vectorType) {
+        JsonElement vector = data.get(VECTORS_FIELD);
+        JsonElement id = data.get(ID_FIELD);
+        if (vector == null || !vector.isJsonArray() || id == null || !id.isJsonPrimitive()) {
+            throw new IllegalArgumentException("Entry must have an `id` and a `vectors` array");
+        }
+        JsonObject row = new JsonObject();
+        row.add(VECTOR, encodeVector(vector.getAsJsonArray(), vectorType));
+        row.add(ID_FIELD, id);
+        JsonElement sparseVector = data.get(SPARSE_VECTOR_FIELD);
+        if (sparseVector != null) {
+            row.add(SPARSE_VECTOR_COLUMN, encodeSparseVector(toSparseMap(sparseVector)));
+        }
+        applyDynamicFields(data, row, ID_FIELD);
+        return row;
+    }
+
+    static JsonArray encodeVector(BArray vector, String vectorType) {
+        if (vector.getElementType().getTag() != TypeTags.BYTE_TAG) {
+            return encodeVector(Utils.floatArray(vector), vectorType);
+        }
+        return encodeBytes(VectorEncoder.checkPacked(vector.getBytes(), vectorType));
+    }
+
+    static JsonArray encodeVector(double[] vector, String vectorType) {
+        return switch (vectorType) {
+            case VectorEncoder.FLOAT16_VECTOR -> encodeBytes(VectorEncoder.toFloat16Bytes(vector));
+            case VectorEncoder.BFLOAT16_VECTOR -> encodeBytes(VectorEncoder.toBFloat16Bytes(vector));
+            case VectorEncoder.BINARY_VECTOR, VectorEncoder.INT8_VECTOR -> throw new IllegalArgumentException(
+                    VectorEncoder.PACKED_VECTOR_ERROR);
+            default -> {
+                JsonArray array = new JsonArray(vector.length);
+                for (double value : vector) {
+                    array.add(value);
+                }
+                yield array;
+            }
+        };
+    }
+
+    private static JsonArray encodeVector(JsonArray vector, String vectorType) {
+        if (!VectorEncoder.FLOAT16_VECTOR.equals(vectorType) && !VectorEncoder.BFLOAT16_VECTOR.equals(vectorType)) {
+            return vector;
+        }
+        double[] values = new double[vector.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = vector.get(i).getAsDouble();
+        }
+        return encodeVector(values, vectorType);
+    }
+
+    private static JsonArray encodeBytes(byte[] bytes) {
+        JsonArray array = new JsonArray(bytes.length);
+        for (byte value : bytes) {
+            array.add(value);
+        }
+        return array;
+    }
+
+    // The SDK reads the sparse vectors of the rows as objects keyed by the indices of the non-zero dimensions.
+    static JsonObject encodeSparseVector(SortedMap<Long, Float> dimensions) {
+        JsonObject sparseVector = new JsonObject();
+        dimensions.forEach((index, value) -> sparseVector.addProperty(index.toString(), value));
+        return sparseVector;
+    }
+
+    private static SortedMap<Long, Float> toSparseMap(JsonElement sparseVector) {
+        JsonObject dimensions = sparseVector.getAsJsonObject();
+        JsonArray indices = dimensions.getAsJsonArray(VectorEncoder.INDICES.getValue());
+        JsonArray values = dimensions.getAsJsonArray(VectorEncoder.VALUES.getValue());
+        if (indices == null || values == null) {
+            throw new IllegalArgumentException("Sparse vector must have its indices and values");
+        }
+        long[] indexArray = new long[indices.size()];
+        for (int i = 0; i < indexArray.length; i++) {
+            indexArray[i] = indices.get(i).getAsLong();
+        }
+        double[] valueArray = new double[values.size()];
+        for (int i = 0; i < valueArray.length; i++) {
+            valueArray[i] = values.get(i).getAsDouble();
+        }
+        return VectorEncoder.toSparseMap(indexArray, valueArray);
+    }
+
+    /**
+     * Estimates the number of bytes the given entry occupies on the wire. Vectors are counted as 32-bit floats since
+     * that is how Milvus stores them, and the dynamic fields by the length of their keys and values.
+     */
+    static long estimateSize(BMap<?, ?> data) {
+        long size = 0;
+        for (Object key : data.getKeys()) {
+            size += key instanceof BString stringKey ? stringKey.length() : 0;
+            size += estimateValueSize(data.get(key));
+        }
+        return size;
+    }
+
+    static long estimateValueSize(Object value) {
+        if (value instanceof BString stringValue) {
+            return stringValue.length();
+        }
+        if (value instanceof BArray arr) {
+            int elementTag = arr.getElementType().getTag();
+            if (elementTag == TypeTags.FLOAT_TAG) {
+                return (long) arr.size() * Float.BYTES;
+            }
+            if (elementTag == TypeTags.BYTE_TAG) {
+                return arr.size();
+            }
+            if (elementTag == TypeTags.INT_TAG) {
+                return (long) arr.size() * Long.BYTES;
+            }
+            long size = 0;
+            for (int i = 0; i < arr.size(); i++) {
+                size += estimateValueSize(arr.get(i));
+            }
+            return size;
+        }
+        if (value instanceof BMap<?, ?> map) {
+            return estimateSize(map);
+        }
+        return Long.BYTES;
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.milvus;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.milvus.v2.common.DataType;
+import io.milvus.v2.common.IndexParam;
+import io.milvus.v2.service.collection.request.AddFieldReq;
+import io.milvus.v2.service.collection.request.CreateCollectionReq;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.lib.milvus.Client.DIMENSION;
+
+/**
+ * Converts the Ballerina field schemas and index definitions into the collection schema and index parameters of the
+ * Milvus SDK.
+ */
+public final class SchemaConverter {
+    public static final BString FIELDS = StringUtils.fromString("fields");
+    public static final BString ENABLE_DYNAMIC_FIELD = StringUtils.fromString("enableDynamicField");
+    public static final BString INDEXES = StringUtils.fromString("indexes");
+    public static final BString METRIC_TYPE = StringUtils.fromString("metricType");
+    public static final BString DESCRIPTION = StringUtils.fromString("description");
+    public static final BString NAME = StringUtils.fromString("name");
+    public static final BString DATA_TYPE = StringUtils.fromString("dataType");
+    public static final BString IS_PRIMARY_KEY = StringUtils.fromString("isPrimaryKey");
+    public static final BString AUTO_ID = StringUtils.fromString("autoId");
+    public static final BString MAX_LENGTH = StringUtils.fromString("maxLength");
+    public static final BString ELEMENT_TYPE = StringUtils.fromString("elementType");
+    public static final BString MAX_CAPACITY = StringUtils.fromString("maxCapacity");
+    public static final BString IS_NULLABLE = StringUtils.fromString("isNullable");
+    public static final BString IS_PARTITION_KEY = StringUtils.fromString("isPartitionKey");
+    public static final BString NUM_PARTITIONS = StringUtils.fromString("numPartitions");
+    public static final BString FIELD_NAME = StringUtils.fromString("fieldName");
+    public static final BString INDEX_NAME = StringUtils.fromString("indexName");
+    public static final BString INDEX_TYPE = StringUtils.fromString("indexType");
+    public static final BString PARAMS = StringUtils.fromString("params");
+    private static final Map<String, String> PARAM_NAMES = Map.of(
+            "sqType", "sq_type",
+            "maxDegree", "max_degree",
+            "searchListSize", "search_list_size",
+            "withRawData", "with_raw_data");
+
+    private SchemaConverter() {
+    }
+
+    static CreateCollectionReq.CollectionSchema toCollectionSchema(BArray fields, boolean enableDynamicField) {
+        CreateCollectionReq.CollectionSchema schema = CreateCollectionReq.CollectionSchema.builder()
+                .enableDynamicField(enableDynamicField)
+                .build();
+        for (int i = 0; i < fields.size(); i++) {
+            schema.addField(toAddFieldReq((BMap<?, ?>) fields.get(i)));
+        }
+        return schema;
+    }
+
+    // The ids of the entries and of the search results are integers, so the primary key can only be an INT64 field.
+    private static AddFieldReq toAddFieldReq(BMap<?, ?> field) {
+        DataType dataType = toDataType(field.getStringValue(DATA_TYPE).getValue());
+        boolean isPrimaryKey = field.getBooleanValue(IS_PRIMARY_KEY);
+        if (isPrimaryKey && dataType != DataType.Int64) {
+            throw new IllegalArgumentException("The primary key must be an INT64 field");
+        }
+        AddFieldReq.AddFieldReqBuilder<?, ?> fieldReq = AddFieldReq.builder()
+                .fieldName(field.getStringValue(NAME).getValue())
+                .dataType(dataType)
+                .isPrimaryKey(isPrimaryKey)
+                .autoID(field.getBooleanValue(AUTO_ID))
+                .isNullable(field.getBooleanValue(IS_NULLABLE))
+                .isPartitionKey(field.getBooleanValue(IS_PARTITION_KEY));
+        Long dimension = field.getIntValue(DIMENSION);
+        Long maxLength = field.getIntValue(MAX_LENGTH);
+        BString elementType = field.getStringValue(ELEMENT_TYPE);
+        Long maxCapacity = field.getIntValue(MAX_CAPACITY);
+        BString description = field.getStringValue(DESCRIPTION);
+        fieldReq = (dimension != null) ? fieldReq.dimension(dimension.intValue()) : fieldReq;
+        fieldReq = (maxLength != null) ? fieldReq.maxLength(maxLength.intValue()) : fieldReq;
+        fieldReq = (elementType != null) ? fieldReq.elementType(toDataType(elementType.getValue())) : fieldReq;
+        fieldReq = (maxCapacity != null) ? fieldReq.maxCapacity(maxCapacity.intValue()) : fieldReq;
+        fieldReq = (description != null) ? fieldReq.description(description.getValue()) : fieldReq;
+        return fieldReq.build();
+    }
+
+    static DataType toDataType(String dataType) {
+        return switch (dataType) {
+            case "BOOL" -> DataType.Bool;
+            case "INT8" -> DataType.Int8;
+            case "INT16" -> DataType.Int16;
+            case "INT32" -> DataType.Int32;
+            case "INT64" -> DataType.Int64;
+            case "FLOAT" -> DataType.Float;
+            case "DOUBLE" -> DataType.Double;
+            case "VARCHAR" -> DataType.VarChar;
+            case "JSON" -> DataType.JSON;
+            case "ARRAY" -> DataType.Array;
+            case VectorEncoder.FLOAT_VECTOR -> DataType.FloatVector;
+            case VectorEncoder.FLOAT16_VECTOR -> DataType.Float16Vector;
+            case VectorEncoder.BFLOAT16_VECTOR -> DataType.BFloat16Vector;
+            case VectorEncoder.BINARY_VECTOR -> DataType.BinaryVector;
+            case VectorEncoder.INT8_VECTOR -> DataType.Int8Vector;
+            case VectorEncoder.SPARSE_FLOAT_VECTOR -> DataType.SparseFloatVector;
+            default -> throw new IllegalArgumentException("Unsupported data type: " + dataType);
+        };
+    }
+
+    static List<IndexParam> toIndexParams(BArray indexes) {
+        List<IndexParam> indexParams = new ArrayList<>(indexes.size());
+        for (int i = 0; i < indexes.size(); i++) {
+            indexParams.add(toIndexParam((BMap<?, ?>) indexes.get(i)));
+        }
+        return indexParams;
+    }
+
+    private static IndexParam toIndexParam(BMap<?, ?> index) {
+        IndexParam.IndexParamBuilder<?, ?> indexParam = IndexParam.builder()
+                .fieldName(index.getStringValue(FIELD_NAME).getValue())
+                .indexType(IndexParam.IndexType.valueOf(index.getStringValue(INDEX_TYPE).getValue()));
+        BString indexName = index.getStringValue(INDEX_NAME);
+        BString metricType = index.getStringValue(METRIC_TYPE);
+        BMap<?, ?> params = index.getMapValue(PARAMS);
+        indexParam = (indexName != null) ? indexParam.indexName(indexName.getValue()) : indexParam;
+        indexParam = (metricType != null) ? indexParam.metricType(toMetricType(metricType)) : indexParam;
+        indexParam = (params != null) ? indexParam.extraParams(toParams(params)) : indexParam;
+        return indexParam.build();
+    }
+
+    static IndexParam.MetricType toMetricType(BString metricType) {
+        return IndexParam.MetricType.valueOf(metricType.getValue());
+    }
+
+    /**
+     * Converts the search parameters into the JSON the SDK expects for each of the searches of a hybrid search.
+     */
+    static String toJsonParams(BMap<?, ?> params) {
+        return JsonEncoder.encodeMap(params).toString();
+    }
+
+    /**
+     * Converts the index or search parameters into the plain values the SDK serializes. The camel case fields of the
+     * parameter records are renamed to the names Milvus expects, and the other fields are passed as they are.
+     */
+    static Map<String, Object> toParams(BMap<?, ?> params) {
+        Map<String, Object> converted = new HashMap<>();
+        for (Object key : params.getKeys()) {
+            Object value = params.get(key);
+            if (value instanceof BString stringValue) {
+                value = stringValue.getValue();
+            } else if (value instanceof BDecimal decimalValue) {
+                value = decimalValue.floatValue();
+            }
+            converted.put(PARAM_NAMES.getOrDefault(key.toString(), key.toString()), value);
+        }
+        return converted;
+    }
+}
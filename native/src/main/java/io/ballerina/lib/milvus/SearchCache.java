@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.milvus;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.milvus.v2.service.vector.response.SearchResp;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static io.ballerina.lib.milvus.Client.COLLECTION_NAME;
+import static io.ballerina.lib.milvus.Client.VECTORS;
+
+/**
+ * Caches the results of the search operations of a client. The entries are evicted in the least recently used order
+ * once the cache exceeds either its entry or weight bound, where the weight of an entry is the number of hits it
+ * holds, and are dropped once their time to live elapses. Any write to a collection through the client invalidates
+ * the entries of that collection.
+ * <p>
+ * The results are kept as returned by the SDK and converted on every hit, so that the callers never share the
+ * mutable Ballerina values.
+ */
+public final class SearchCache {
+    public static final BString SEARCH_CACHE = StringUtils.fromString("searchCache");
+    public static final BString MAX_ENTRIES = StringUtils.fromString("maxEntries");
+    public static final BString MAX_WEIGHT = StringUtils.fromString("maxWeight");
+    public static final BString TTL = StringUtils.fromString("ttl");
+    public static final BString VECTOR_PRECISION = StringUtils.fromString("vectorPrecision");
+    private static final String SEARCH_CACHE_STATISTICS = "SearchCacheStatistics";
+
+    private final long maxEntries;
+    private final long maxWeight;
+    private final long ttlNanos;
+    private final double scale;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Long> generations = new HashMap<>();
+    private long weight;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    private SearchCache(long maxEntries, long maxWeight, long ttlSeconds, long vectorPrecision) {
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.scale = Math.pow(10, vectorPrecision);
+    }
+
+    static SearchCache create(BMap<?, ?> config) {
+        if (config == null) {
+            return null;
+        }
+        long maxEntries = config.getIntValue(MAX_ENTRIES);
+        long maxWeight = config.getIntValue(MAX_WEIGHT);
+        long ttl = config.getIntValue(TTL);
+        long vectorPrecision = config.getIntValue(VECTOR_PRECISION);
+        if (maxEntries <= 0 || maxWeight <= 0 || ttl <= 0) {
+            throw new IllegalArgumentException("Search cache bounds and time to live must be positive");
+        }
+        if (vectorPrecision < 0) {
+            throw new IllegalArgumentException("Search cache vector precision cannot be negative");
+        }
+        return new SearchCache(maxEntries, maxWeight, ttl, vectorPrecision);
+    }
+
+    Key key(BMap<String, Object> request) {
+        BArray vectors = request.getArrayValue(VECTORS);
+        long[][] quantized;
+        if (vectors.getElementType().getTag() == TypeTags.FLOAT_TAG) {
+            quantized = new long[][]{quantize(Utils.floatArray(vectors))};
+        } else {
+            quantized = new long[vectors.size()][];
+            for (int i = 0; i < vectors.size(); i++) {
+                quantized[i] = quantize(Utils.floatArray((BArray) vectors.get(i)));
+            }
+        }
+        return new Key(request.getStringValue(COLLECTION_NAME).getValue(), Utils.searchOptions(request), quantized);
+    }
+
+    // Vectors that only differ beyond the configured precision share an entry.
+    private long[] quantize(double[] vector) {
+        long[] quantized = new long[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            quantized[i] = Math.round(vector[i] * scale);
+        }
+        return quantized;
+    }
+
+    synchronized long generation(String collectionName) {
+        return generations.getOrDefault(collectionName, 0L);
+    }
+
+    synchronized List<List<SearchResp.SearchResult>> get(Key key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (System.nanoTime() - entry.createdAt > ttlNanos) {
+            entries.remove(key);
+            weight -= entry.weight;
+            evictions.increment();
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.results;
+    }
+
+    /**
+     * Caches the results of a search, unless the collection was written to after the given generation was read. This
+     * keeps a search that raced with a write from caching the results it read before the write.
+     */
+    synchronized void put(Key key, long generation, List<List<SearchResp.SearchResult>> results) {
+        if (generation(key.collectionName) != generation) {
+            return;
+        }
+        long entryWeight = 0;
+        for (List<SearchResp.SearchResult> result : results) {
+            entryWeight += result.size();
+        }
+        if (entryWeight > maxWeight) {
+            return;
+        }
+        Entry previous = entries.put(key, new Entry(results, entryWeight, System.nanoTime()));
+        weight += entryWeight - (previous != null ? previous.weight : 0);
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (entries.size() > maxEntries || weight > maxWeight) {
+            weight -= eldest.next().weight;
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    synchronized void invalidate(String collectionName) {
+        generations.merge(collectionName, 1L, Long::sum);
+        Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Key, Entry> entry = iterator.next();
+            if (entry.getKey().collectionName.equals(collectionName)) {
+                weight -= entry.getValue().weight;
+                iterator.remove();
+                invalidations.increment();
+            }
+        }
+    }
+
+    BMap<BString, Object> getStatistics() {
+        Map<String, Object> statistics = new HashMap<>();
+        synchronized (this) {
+            statistics.put("entries", (long) entries.size());
+            statistics.put("weight", weight);
+        }
+        statistics.put("hits", hits.sum());
+        statistics.put("misses", misses.sum());
+        statistics.put("evictions", evictions.sum());
+        statistics.put("invalidations", invalidations.sum());
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), SEARCH_CACHE_STATISTICS, statistics);
+    }
+
+    static final class Key {
+        private final String collectionName;
+        private final String options;
+        private final long[][] vectors;
+        private final int hash;
+
+        private Key(String collectionName, String options, long[][] vectors) {
+            this.collectionName = collectionName;
+            this.options = options;
+            this.vectors = vectors;
+            this.hash = Objects.hash(collectionName, options) * 31 + Arrays.deepHashCode(vectors);
+        }
+
+        String collectionName() {
+            return collectionName;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key key)) {
+                return false;
+            }
+            return hash == key.hash && collectionName.equals(key.collectionName) && options.equals(key.options)
+                    && Arrays.deepEquals(vectors, key.vectors);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private record Entry(List<List<SearchResp.SearchResult>> results, long weight, long createdAt) {
+    }
+}
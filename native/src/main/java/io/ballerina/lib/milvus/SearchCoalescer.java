@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.milvus;
+
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.milvus.v2.client.MilvusClientV2;
+import io.milvus.v2.service.vector.request.data.BaseVector;
+import io.milvus.v2.service.vector.response.SearchResp;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static io.ballerina.lib.milvus.Client.COLLECTION_NAME;
+
+/**
+ * Coalesces the concurrent single-vector searches of a client into multi-vector searches. The searches that share
+ * the collection and every other search option join the same batch, which is sent to Milvus as a single search once
+ * it reaches the maximum batch size or the maximum delay elapses, whichever comes first. Each search then gets its
+ * own slice of the results.
+ * <p>
+ * The first search of a batch waits for the rest of the batch and sends it, while the others wait for the results
+ * without leasing a connection.
+ */
+public final class SearchCoalescer {
+    public static final BString SEARCH_BATCHING = StringUtils.fromString("searchBatching");
+    public static final BString MAX_BATCH_SIZE = StringUtils.fromString("maxBatchSize");
+    public static final BString MAX_DELAY = StringUtils.fromString("maxDelay");
+
+    private final Supplier<ClientProvider> providers;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final Map<String, Batch> pending = new HashMap<>();
+
+    private SearchCoalescer(Supplier<ClientProvider> providers, int maxBatchSize, long maxDelayMillis) {
+        this.providers = providers;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+    }
+
+    /**
+     * Creates the coalescer of the searches of a client, where each batch leases its connection from the provider
+     * given for it, which is the next read endpoint of the client.
+     */
+    static SearchCoalescer create(Supplier<ClientProvider> providers, BMap<?, ?> config) {
+        if (config == null) {
+            return null;
+        }
+        long maxBatchSize = config.getIntValue(MAX_BATCH_SIZE);
+        long maxDelay = config.getIntValue(MAX_DELAY);
+        if (maxBatchSize <= 0 || maxBatchSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Search batching max batch size must be a positive int");
+        }
+        if (maxDelay < 0) {
+            throw new IllegalArgumentException("Search batching max delay cannot be negative");
+        }
+        return new SearchCoalescer(providers, (int) maxBatchSize, maxDelay);
+    }
+
+    static boolean isSingleVector(BArray vectors) {
+        return vectors.getElementType().getTag() == TypeTags.FLOAT_TAG || vectors.size() == 1;
+    }
+
+    /**
+     * Searches the single vector of the request as part of a batch, blocking until the results of the batch arrive.
+     * The errors of the batch search are thrown to every search in the batch.
+     */
+    List<SearchResp.SearchResult> search(BMap<String, Object> request, BArray vectors) {
+        double[] vector = vectors.getElementType().getTag() == TypeTags.FLOAT_TAG
+                ? Utils.floatArray(vectors) : Utils.floatArray((BArray) vectors.get(0));
+        String batchKey = request.getStringValue(COLLECTION_NAME).getValue() + '|' + Utils.searchOptions(request);
+        Batch batch;
+        int index;
+        boolean leader;
+        synchronized (this) {
+            batch = pending.get(batchKey);
+            leader = batch == null;
+            if (leader) {
+                batch = new Batch(request);
+                pending.put(batchKey, batch);
+            }
+            index = batch.vectors.size();
+            batch.vectors.add(vector);
+            if (batch.vectors.size() >= maxBatchSize) {
+                pending.remove(batchKey);
+                batch.full.countDown();
+            }
+        }
+        if (leader) {
+            awaitFull(batch);
+            synchronized (this) {
+                pending.remove(batchKey, batch);
+            }
+            send(batch);
+        }
+        try {
+            return batch.results.join().get(index);
+        } catch (CompletionException error) {
+            throw error.getCause() instanceof RuntimeException cause ? cause : error;
+        }
+    }
+
+    private void awaitFull(Batch batch) {
+        try {
+            batch.full.await(maxDelayNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException error) {
+            // The batch is sent right away, with the searches that joined it so far.
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void send(Batch batch) {
+        ClientProvider provider = providers.get();
+        MilvusClientV2 client = null;
+        try {
+            // The batch is no longer pending, so no search can join it while it is being sent.
+            String vectorType = Client.getVectorType(batch.request);
+            List<BaseVector> data = new ArrayList<>(batch.vectors.size());
+            for (double[] vector : batch.vectors) {
+                data.add(VectorEncoder.encode(vector, vectorType));
+            }
+            client = provider.acquire();
+            batch.results.complete(client.search(Client.toSearchReq(batch.request, data)).getSearchResults());
+        } catch (Throwable error) {
+            // The followers wait on the results without a timeout, so the batch is failed on any error, and the
+            // errors of the JVM are rethrown once it is.
+            batch.results.completeExceptionally(error);
+            if (error instanceof Error jvmError) {
+                throw jvmError;
+            }
+        } finally {
+            if (client != null) {
+                provider.release(client);
+            }
+        }
+    }
+
+    /**
+     * The searches that share a collection and options, sent with the options of the first search of the batch.
+     */
+    private static final class Batch {
+        private final BMap<String, Object> request;
+        private final List<double[]> vectors = new ArrayList<>();
+        private final CountDownLatch full = new CountDownLatch(1);
+        private final CompletableFuture<List<List<SearchResp.SearchResult>>> results = new CompletableFuture<>();
+
+        private Batch(BMap<String, Object> request) {
+            this.request = request;
+        }
+    }
+}
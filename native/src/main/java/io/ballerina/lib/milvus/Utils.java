@@ -18,7 +18,7 @@
 
 package io.ballerina.lib.milvus;
 
-import com.google.gson.Gson;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
@@ -26,18 +26,33 @@ import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
+import io.milvus.v2.client.MilvusClientV2;
+import io.milvus.v2.exception.MilvusClientException;
+import io.milvus.v2.service.collection.request.GetLoadStateReq;
+import io.milvus.v2.service.vector.request.QueryReq;
 
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import static io.ballerina.lib.milvus.Client.COLLECTION_NAME;
+import static io.ballerina.lib.milvus.Client.PARTITION_NAME;
+import static io.ballerina.lib.milvus.Client.PARTITION_NAMES;
+import static io.ballerina.lib.milvus.Client.SPARSE_VECTOR_COLUMN;
+import static io.ballerina.lib.milvus.Client.SPARSE_VECTOR_FIELD;
 import static io.ballerina.lib.milvus.Client.VECTOR;
+import static io.ballerina.lib.milvus.Client.VECTORS;
+import static io.ballerina.lib.milvus.Client.VECTORS_FIELD;
 import static io.ballerina.lib.milvus.ModuleUtils.getModule;
 
 public class Utils {
     private static final String ERROR_TYPE = "Error";
+    static final long LOAD_POLL_INTERVAL = 500;
+    // The codes of the errors Milvus reports for the collections that are not loaded, or only partly loaded.
+    private static final int COLLECTION_NOT_LOADED_CODE = 101;
+    private static final int COLLECTION_NOT_FULLY_LOADED_CODE = 104;
     private Utils() {
     }
 
@@ -46,37 +61,135 @@ public class Utils {
         return ErrorCreator.createError(getModule(), ERROR_TYPE, StringUtils.fromString(message), cause, null);
     }
 
-    static void applyDynamicFields(BMap<?, ?> data, Gson gson, JsonObject row, String primaryKey) {
-        Object[] keys = data.getKeys();
-        for (Object keyObj : keys) {
-            String key = (keyObj instanceof BString) ? ((BString) keyObj).getValue() : String.valueOf(keyObj);
-            if (VECTOR.equals(key) || primaryKey.equals(key)) {
-                continue;
+    /**
+     * Returns the options of a search request, which are all of its fields other than the collection name and the
+     * vectors, such as the partitions, filter, topK and search parameters. The fields are rendered as they are, in the
+     * order of their names, so that two searches with the same options get the same string.
+     */
+    static String searchOptions(BMap<String, Object> request) {
+        String[] fieldNames = new String[request.size()];
+        int count = 0;
+        for (Object fieldName : request.getKeys()) {
+            if (!VECTORS.equals(fieldName) && !COLLECTION_NAME.equals(fieldName)) {
+                fieldNames[count++] = fieldName.toString();
             }
-            Object val = data.get(StringUtils.fromString(key));
-            row.add(key, gson.toJsonTree(convertToJsonFields(val)));
+        }
+        Arrays.sort(fieldNames, 0, count);
+        StringBuilder options = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            options.append(fieldNames[i]).append('=')
+                    .append(request.get(StringUtils.fromString(fieldNames[i]))).append(';');
+        }
+        return options.toString();
+    }
+
+    /**
+     * Returns the partitions a read is restricted to, which are the `partitionNames` of the request along with its
+     * `partitionName`, or null when the read covers the whole collection.
+     */
+    static List<String> partitionNames(BMap<?, ?> request) {
+        BString partitionName = request.getStringValue(PARTITION_NAME);
+        BArray partitionNames = request.getArrayValue(PARTITION_NAMES);
+        if (partitionNames == null) {
+            return partitionName != null ? List.of(partitionName.getValue()) : null;
+        }
+        List<String> names = new ArrayList<>(Arrays.asList(partitionNames.getStringArray()));
+        if (partitionName != null && !names.contains(partitionName.getValue())) {
+            names.add(partitionName.getValue());
+        }
+        return names.isEmpty() ? null : names;
+    }
+
+    /**
+     * Returns the values of a `float[]`. The backing array of a Ballerina array can be larger than the array itself,
+     * such as after a push or when built by a query expression, so it is cut down to the size of the array.
+     */
+    static double[] floatArray(BArray array) {
+        double[] values = array.getFloatArray();
+        return values.length == array.size() ? values : Arrays.copyOf(values, array.size());
+    }
+
+    /**
+     * Returns the values of an `int[]`, cut down to the size of the array as for the `float[]`.
+     */
+    static long[] intArray(BArray array) {
+        long[] values = array.getIntArray();
+        return values.length == array.size() ? values : Arrays.copyOf(values, array.size());
+    }
+
+    /**
+     * Returns whether a collection is loaded. The SDK only reads the load state from the database of the client, so
+     * the load of a collection in another database is checked with a query instead, which fails until it is loaded.
+     * The other failures of the query, such as an unknown database or a denied permission, are thrown as they are.
+     */
+    static boolean isLoaded(MilvusClientV2 client, String collectionName, String databaseName) {
+        if (databaseName == null) {
+            return client.getLoadState(GetLoadStateReq.builder().collectionName(collectionName).build());
+        }
+        try {
+            client.query(QueryReq.builder()
+                    .databaseName(databaseName)
+                    .collectionName(collectionName)
+                    .limit(1)
+                    .build());
+            return true;
+        } catch (MilvusClientException error) {
+            int code = error.getServerErrCode();
+            if (code == COLLECTION_NOT_LOADED_CODE || code == COLLECTION_NOT_FULLY_LOADED_CODE) {
+                return false;
+            }
+            throw error;
         }
     }
 
-    private static Object convertToJsonFields(Object value) {
-        if (value instanceof BString stringValue) {
-            return stringValue.getValue();
+    /**
+     * Waits for a collection in another database than the one of the client to load, as the SDK only waits on the
+     * loads in the database of the client.
+     */
+    static void awaitLoaded(MilvusClientV2 client, String collectionName, String databaseName, long timeoutMillis)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + timeoutMillis * 1_000_000;
+        while (!isLoaded(client, collectionName, databaseName)) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Timed out waiting for the collection to load");
+            }
+            Thread.sleep(LOAD_POLL_INTERVAL);
         }
-        if (value instanceof BArray arr) {
-            List<Object> list = new ArrayList<>();
-            for (int i = 0; i < arr.size(); i++) {
-                list.add(convertToJsonFields(arr.get(i)));
+    }
+
+    static void applyDynamicFields(BMap<?, ?> data, JsonObject row, String primaryKey) {
+        for (Map.Entry<?, ?> field : data.entrySet()) {
+            String key = JsonEncoder.fieldName(field.getKey());
+            checkFieldName(key);
+            if (isDynamicField(key, primaryKey)) {
+                row.add(key, JsonEncoder.encode(field.getValue()));
             }
-            return list;
         }
-        if (value instanceof BMap<?, ?> map) {
-            Map<String, Object> jsonMap = new LinkedHashMap<>();
-            Object[] mapKeys = map.getKeys();
-            for (Object keyObj : mapKeys) {
-                jsonMap.put(keyObj.toString(), convertToJsonFields(map.get(keyObj)));
+    }
+
+    /**
+     * Copies the dynamic fields of an entry that is already in JSON, such as a row read from a JSON lines file, with
+     * the same rules as for the Ballerina entries.
+     */
+    static void applyDynamicFields(JsonObject data, JsonObject row, String primaryKey) {
+        for (Map.Entry<String, JsonElement> field : data.entrySet()) {
+            checkFieldName(field.getKey());
+            if (isDynamicField(field.getKey(), primaryKey)) {
+                row.add(field.getKey(), field.getValue());
             }
-            return jsonMap;
         }
-        return value;
+    }
+
+    // A dynamic field named after the sparse vector column would be taken for the sparse vector, or dropped.
+    private static void checkFieldName(String key) {
+        if (SPARSE_VECTOR_COLUMN.equals(key)) {
+            throw new IllegalArgumentException("Dynamic field cannot be named `" + SPARSE_VECTOR_COLUMN
+                    + "`, which is reserved for the sparse vector of the entry");
+        }
+    }
+
+    private static boolean isDynamicField(String key, String primaryKey) {
+        return !VECTOR.equals(key) && !VECTORS_FIELD.equals(key) && !SPARSE_VECTOR_FIELD.equals(key)
+                && !SPARSE_VECTOR_COLUMN.equals(key) && !primaryKey.equals(key);
     }
 }
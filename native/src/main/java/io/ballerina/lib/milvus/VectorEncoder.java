@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.milvus;
+
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.milvus.common.utils.Float16Utils;
+import io.milvus.grpc.PlaceholderType;
+import io.milvus.v2.service.vector.request.data.BFloat16Vec;
+import io.milvus.v2.service.vector.request.data.BaseVector;
+import io.milvus.v2.service.vector.request.data.BinaryVec;
+import io.milvus.v2.service.vector.request.data.Float16Vec;
+import io.milvus.v2.service.vector.request.data.Int8Vec;
+import io.milvus.v2.service.vector.request.data.SparseFloatVec;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Encodes the Ballerina `float[]` vectors straight into the packed little-endian bytes Milvus expects on the wire,
+ * without going through the boxed `List<Float>` representation of the SDK. The binary, int8, float16 and bfloat16
+ * vectors can also be given as `byte[]` values that are already packed, which are passed on as they are. The sparse
+ * vectors are given as the indices of their non-zero dimensions and the values of those dimensions.
+ */
+public final class VectorEncoder {
+    public static final BString VECTOR_TYPE = StringUtils.fromString("vectorType");
+    static final String FLOAT_VECTOR = "FLOAT_VECTOR";
+    static final String FLOAT16_VECTOR = "FLOAT16_VECTOR";
+    static final String BFLOAT16_VECTOR = "BFLOAT16_VECTOR";
+    static final String BINARY_VECTOR = "BINARY_VECTOR";
+    static final String INT8_VECTOR = "INT8_VECTOR";
+    static final String SPARSE_FLOAT_VECTOR = "SPARSE_FLOAT_VECTOR";
+    static final String PACKED_VECTOR_ERROR =
+            "Binary and int8 vectors must be given as packed bytes, such as the ones returned by `quantize`";
+    static final BString INDICES = StringUtils.fromString("indices");
+    static final BString VALUES = StringUtils.fromString("values");
+
+    // Milvus keeps the indices of the sparse vectors as unsigned 32-bit ints.
+    private static final long MAX_SPARSE_INDEX = 0xFFFFFFFEL;
+    private static final VarHandle FLOAT_VIEW =
+            MethodHandles.byteArrayViewVarHandle(float[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle SHORT_VIEW =
+            MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private VectorEncoder() {
+    }
+
+    /**
+     * Encodes the vectors of a search, which are either a single vector or an array of vectors, and either dense,
+     * packed or sparse.
+     */
+    static List<BaseVector> encodeAll(Object vectors, String vectorType) {
+        if (vectors instanceof BMap<?, ?> sparseVector) {
+            List<BaseVector> encoded = new ArrayList<>(1);
+            encoded.add(encodeSparse(sparseVector));
+            return encoded;
+        }
+        BArray vectorArray = (BArray) vectors;
+        int elementTag = vectorArray.getElementType().getTag();
+        if (elementTag == TypeTags.FLOAT_TAG || elementTag == TypeTags.BYTE_TAG) {
+            List<BaseVector> encoded = new ArrayList<>(1);
+            encoded.add(encode(vectorArray, vectorType));
+            return encoded;
+        }
+        List<BaseVector> encoded = new ArrayList<>(vectorArray.size());
+        for (int i = 0; i < vectorArray.size(); i++) {
+            Object vector = vectorArray.get(i);
+            encoded.add(vector instanceof BMap<?, ?> sparseVector
+                    ? encodeSparse(sparseVector) : encode((BArray) vector, vectorType));
+        }
+        return encoded;
+    }
+
+    /**
+     * Encodes a dense vector, which is either a `float[]` or a `byte[]` that is already packed for its vector type.
+     */
+    static BaseVector encode(BArray vector, String vectorType) {
+        return vector.getElementType().getTag() == TypeTags.BYTE_TAG
+                ? encodePacked(vector.getBytes(), vectorType) : encode(Utils.floatArray(vector), vectorType);
+    }
+
+    static BaseVector encode(double[] vector, String vectorType) {
+        return switch (vectorType) {
+            case FLOAT16_VECTOR -> new Float16Vec(toFloat16Bytes(vector));
+            case BFLOAT16_VECTOR -> new BFloat16Vec(toBFloat16Bytes(vector));
+            case BINARY_VECTOR, INT8_VECTOR -> throw new IllegalArgumentException(PACKED_VECTOR_ERROR);
+            case SPARSE_FLOAT_VECTOR -> throw new IllegalArgumentException(
+                    "Sparse vectors must be given with their indices and values");
+            default -> new PackedFloatVec(toFloatBytes(vector));
+        };
+    }
+
+    /**
+     * Wraps a vector that is already packed into the bytes of its vector type. The binary vectors hold a bit per
+     * dimension, the int8 vectors a two's complement byte per dimension, and the float16 and bfloat16 vectors two
+     * little-endian bytes per dimension.
+     */
+    static BaseVector encodePacked(byte[] vector, String vectorType) {
+        checkPacked(vector, vectorType);
+        return switch (vectorType) {
+            case BINARY_VECTOR -> new BinaryVec(vector);
+            case INT8_VECTOR -> new Int8Vec(vector);
+            case FLOAT16_VECTOR -> new Float16Vec(vector);
+            default -> new BFloat16Vec(vector);
+        };
+    }
+
+    static byte[] checkPacked(byte[] vector, String vectorType) {
+        switch (vectorType) {
+            case BINARY_VECTOR, INT8_VECTOR -> {
+            }
+            case FLOAT16_VECTOR, BFLOAT16_VECTOR -> {
+                if (vector.length % Short.BYTES != 0) {
+                    throw new IllegalArgumentException("Packed 16-bit vectors must have two bytes per dimension");
+                }
+            }
+            default -> throw new IllegalArgumentException("Vectors of type " + vectorType + " must be given as floats");
+        }
+        return vector;
+    }
+
+    static boolean requiresBytes(String vectorType) {
+        return BINARY_VECTOR.equals(vectorType) || INT8_VECTOR.equals(vectorType);
+    }
+
+    static BaseVector encodeSparse(BMap<?, ?> sparseVector) {
+        return new SparseFloatVec(toSparseMap(sparseVector));
+    }
+
+    /**
+     * Returns the dimensions of a sparse vector in the order of their indices, which is the order Milvus expects.
+     */
+    static SortedMap<Long, Float> toSparseMap(BMap<?, ?> sparseVector) {
+        return toSparseMap(Utils.intArray(sparseVector.getArrayValue(INDICES)),
+                Utils.floatArray(sparseVector.getArrayValue(VALUES)));
+    }
+
+    /**
+     * Validates the dimensions of a sparse vector, whose indices must be within the range Milvus accepts, and returns
+     * them in the order of their indices.
+     */
+    static SortedMap<Long, Float> toSparseMap(long[] indices, double[] values) {
+        if (indices.length != values.length) {
+            throw new IllegalArgumentException("Sparse vector must have a value for each of its indices");
+        }
+        SortedMap<Long, Float> dimensions = new TreeMap<>();
+        for (int i = 0; i < indices.length; i++) {
+            if (indices[i] < 0 || indices[i] > MAX_SPARSE_INDEX) {
+                throw new IllegalArgumentException("Sparse vector index out of range: " + indices[i]);
+            }
+            dimensions.put(indices[i], (float) values[i]);
+        }
+        return dimensions;
+    }
+
+    /**
+     * Returns whether the vectors of a search are given as floats, either as a single vector or as an array of
+     * vectors, rather than as packed bytes or as sparse vectors.
+     */
+    static boolean isFloat(Object vectors) {
+        if (!(vectors instanceof BArray vectorArray)) {
+            return false;
+        }
+        int elementTag = vectorArray.getElementType().getTag();
+        return elementTag == TypeTags.FLOAT_TAG || (vectorArray.size() > 0 && vectorArray.get(0) instanceof BArray
+                && ((BArray) vectorArray.get(0)).getElementType().getTag() == TypeTags.FLOAT_TAG);
+    }
+
+    // The SDK reads the whole backing array of the vector buffers, so every vector needs an exactly sized array.
+    static byte[] toFloatBytes(double[] vector) {
+        byte[] bytes = new byte[vector.length * Float.BYTES];
+        for (int i = 0; i < vector.length; i++) {
+            FLOAT_VIEW.set(bytes, i * Float.BYTES, (float) vector[i]);
+        }
+        return bytes;
+    }
+
+    static byte[] toFloat16Bytes(double[] vector) {
+        byte[] bytes = new byte[vector.length * Short.BYTES];
+        for (int i = 0; i < vector.length; i++) {
+            SHORT_VIEW.set(bytes, i * Short.BYTES, Float16Utils.floatToFp16((float) vector[i]));
+        }
+        return bytes;
+    }
+
+    static byte[] toBFloat16Bytes(double[] vector) {
+        byte[] bytes = new byte[vector.length * Short.BYTES];
+        for (int i = 0; i < vector.length; i++) {
+            SHORT_VIEW.set(bytes, i * Short.BYTES, Float16Utils.floatToBf16((float) vector[i]));
+        }
+        return bytes;
+    }
+
+    /**
+     * A float vector that is already packed into little-endian bytes. The SDK copies the bytes of a buffer as they
+     * are into the search placeholder, which is the same encoding it produces for a {@code FloatVec}.
+     */
+    private static final class PackedFloatVec implements BaseVector {
+        private final ByteBuffer data;
+
+        private PackedFloatVec(byte[] data) {
+            this.data = ByteBuffer.wrap(data);
+        }
+
+        @Override
+        public PlaceholderType getPlaceholderType() {
+            return PlaceholderType.FloatVector;
+        }
+
+        @Override
+        public Object getData() {
+            return data;
+        }
+    }
+}
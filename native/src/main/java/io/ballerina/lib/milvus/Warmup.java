@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.milvus;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.milvus.v2.client.MilvusClientV2;
+import io.milvus.v2.service.collection.request.CreateCollectionReq;
+import io.milvus.v2.service.collection.request.DescribeCollectionReq;
+import io.milvus.v2.service.collection.request.LoadCollectionReq;
+import io.milvus.v2.service.vector.request.SearchReq;
+import io.milvus.v2.service.vector.request.data.BaseVector;
+import io.milvus.v2.service.vector.request.data.SparseFloatVec;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import static io.ballerina.lib.milvus.Client.ANNS_FIELD;
+import static io.ballerina.lib.milvus.Client.COLLECTION_NAME;
+import static io.ballerina.lib.milvus.Client.DATABASE_NAME;
+
+/**
+ * Warms up the collections of a client in the background once the client is initialized, so that the first searches
+ * do not wait on a cold collection. Each collection is loaded, and once the load completes, a search for a synthetic
+ * vector is sent through every read connection of the client, which sets up the channels and the search path.
+ */
+public final class Warmup {
+    public static final BString WARMUP = StringUtils.fromString("warmup");
+    public static final BString LOAD_TIMEOUT = StringUtils.fromString("loadTimeout");
+    public static final BString PROGRESS_INTERVAL = StringUtils.fromString("progressInterval");
+    public static final BString SEARCH = StringUtils.fromString("search");
+    private static final String READINESS = "Readiness";
+    private static final String COLLECTION_READINESS = "CollectionReadiness";
+
+    private final List<CollectionWarmup> collections;
+
+    private Warmup(List<CollectionWarmup> collections) {
+        this.collections = collections;
+    }
+
+    /**
+     * Starts the warmup of the given collections, each on a virtual thread of its own.
+     */
+    static Warmup start(ClientProvider provider, ReadRouter readRouter, BArray warmupConfigs) {
+        List<CollectionWarmup> collections = new ArrayList<>();
+        if (warmupConfigs != null) {
+            for (int i = 0; i < warmupConfigs.size(); i++) {
+                collections.add(new CollectionWarmup((BMap<?, ?>) warmupConfigs.get(i), provider, readRouter));
+            }
+        }
+        for (CollectionWarmup collection : collections) {
+            Thread.ofVirtual().name("milvus-warmup-" + collection.collectionName).start(collection::run);
+        }
+        return new Warmup(collections);
+    }
+
+    /**
+     * Returns the readiness of the client, which is ready once all its collections are warmed up.
+     */
+    BMap<BString, Object> getReadiness() {
+        Object[] states = new Object[collections.size()];
+        boolean ready = true;
+        for (int i = 0; i < states.length; i++) {
+            CollectionWarmup collection = collections.get(i);
+            State state = collection.state;
+            ready &= state == State.READY;
+            Map<String, Object> collectionReadiness = new HashMap<>();
+            collectionReadiness.put("collectionName", StringUtils.fromString(collection.collectionName));
+            collectionReadiness.put("state", StringUtils.fromString(state.name()));
+            if (collection.message != null) {
+                collectionReadiness.put("message", StringUtils.fromString(collection.message));
+            }
+            states[i] = ValueCreator.createRecordValue(ModuleUtils.getModule(), COLLECTION_READINESS,
+                    collectionReadiness);
+        }
+        Map<String, Object> readiness = new HashMap<>();
+        readiness.put("ready", ready);
+        readiness.put("collections", ValueCreator.createArrayValue(states, Types.COLLECTION_READINESS_ARRAY));
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), READINESS, readiness);
+    }
+
+    private enum State {
+        PENDING, LOADING, SEARCHING, READY, FAILED
+    }
+
+    private static final class CollectionWarmup {
+        private final String collectionName;
+        private final String databaseName;
+        private final long loadTimeout;
+        private final Long progressInterval;
+        private final boolean search;
+        private final String annsField;
+        private final ClientProvider provider;
+        private final ReadRouter readRouter;
+        private volatile State state = State.PENDING;
+        private volatile String message;
+
+        private CollectionWarmup(BMap<?, ?> config, ClientProvider provider, ReadRouter readRouter) {
+            this.collectionName = config.getStringValue(COLLECTION_NAME).getValue();
+            BString database = config.getStringValue(DATABASE_NAME);
+            this.databaseName = database != null ? database.getValue() : null;
+            this.loadTimeout = config.getIntValue(LOAD_TIMEOUT) * 1000;
+            this.progressInterval = config.getIntValue(PROGRESS_INTERVAL);
+            this.search = config.getBooleanValue(SEARCH);
+            BString anns = config.getStringValue(ANNS_FIELD);
+            this.annsField = anns != null ? anns.getValue() : null;
+            this.provider = provider;
+            this.readRouter = readRouter;
+        }
+
+        private void run() {
+            try {
+                state = State.LOADING;
+                load();
+                if (search) {
+                    state = State.SEARCHING;
+                    searchSyntheticVector();
+                }
+                state = State.READY;
+            } catch (InterruptedException error) {
+                Thread.currentThread().interrupt();
+                fail(error);
+            } catch (RuntimeException error) {
+                fail(error);
+            }
+        }
+
+        // When a progress interval is given, the load is started without waiting, and its state is polled instead.
+        // The SDK only waits on the loads in the database of the client, so the loads in other databases are always
+        // polled.
+        private void load() throws InterruptedException {
+            boolean poll = progressInterval != null || databaseName != null;
+            LoadCollectionReq.LoadCollectionReqBuilder<?, ?> loadRequestBuilder = LoadCollectionReq.builder()
+                    .collectionName(collectionName)
+                    .sync(!poll)
+                    .timeout(loadTimeout);
+            loadRequestBuilder = (databaseName != null) ? loadRequestBuilder.databaseName(databaseName)
+                    : loadRequestBuilder;
+            LoadCollectionReq loadRequest = loadRequestBuilder.build();
+            call(provider, client -> {
+                client.loadCollection(loadRequest);
+                return null;
+            });
+            if (!poll) {
+                return;
+            }
+            long interval = progressInterval != null ? progressInterval : Utils.LOAD_POLL_INTERVAL;
+            long deadline = System.nanoTime() + loadTimeout * 1_000_000;
+            while (!call(provider, client -> Utils.isLoaded(client, collectionName, databaseName))) {
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException("Timed out waiting for the collection to load");
+                }
+                Thread.sleep(interval);
+            }
+        }
+
+        private void searchSyntheticVector() {
+            DescribeCollectionReq.DescribeCollectionReqBuilder<?, ?> describeRequestBuilder =
+                    DescribeCollectionReq.builder().collectionName(collectionName);
+            describeRequestBuilder = (databaseName != null) ? describeRequestBuilder.databaseName(databaseName)
+                    : describeRequestBuilder;
+            DescribeCollectionReq describeRequest = describeRequestBuilder.build();
+            CreateCollectionReq.CollectionSchema schema =
+                    call(provider, client -> client.describeCollection(describeRequest)).getCollectionSchema();
+            for (CreateCollectionReq.FieldSchema field : schema.getFieldSchemaList()) {
+                BaseVector vector = syntheticVector(field);
+                if (vector == null || (annsField != null && !annsField.equals(field.getName()))) {
+                    continue;
+                }
+                SearchReq.SearchReqBuilder<?, ?> searchRequestBuilder = SearchReq.builder()
+                        .collectionName(collectionName)
+                        .annsField(field.getName())
+                        .data(List.of(vector))
+                        .topK(1);
+                searchRequestBuilder = (databaseName != null) ? searchRequestBuilder.databaseName(databaseName)
+                        : searchRequestBuilder;
+                SearchReq searchRequest = searchRequestBuilder.build();
+                for (ClientProvider readProvider : readRouter.providers()) {
+                    call(readProvider, client -> client.search(searchRequest));
+                }
+                return;
+            }
+            throw new IllegalStateException("Collection has no vector field to search");
+        }
+
+        private void fail(Exception error) {
+            message = error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName();
+            state = State.FAILED;
+        }
+    }
+
+    /**
+     * Returns a vector of ones for the vector fields, in the encoding of the field, and null for the other fields.
+     */
+    private static BaseVector syntheticVector(CreateCollectionReq.FieldSchema field) {
+        int dimension = field.getDimension() != null ? field.getDimension() : 0;
+        double[] ones = new double[dimension];
+        Arrays.fill(ones, 1);
+        return switch (field.getDataType()) {
+            case FloatVector -> VectorEncoder.encode(ones, VectorEncoder.FLOAT_VECTOR);
+            case Float16Vector -> VectorEncoder.encode(ones, VectorEncoder.FLOAT16_VECTOR);
+            case BFloat16Vector -> VectorEncoder.encode(ones, VectorEncoder.BFLOAT16_VECTOR);
+            case BinaryVector ->
+                    VectorEncoder.encodePacked(Quantizer.toBinary(ones, 0), VectorEncoder.BINARY_VECTOR);
+            case Int8Vector -> VectorEncoder.encodePacked(Quantizer.toInt8(ones, 1), VectorEncoder.INT8_VECTOR);
+            case SparseFloatVector -> new SparseFloatVec(new TreeMap<>(Map.of(0L, 1.0f)));
+            default -> null;
+        };
+    }
+
+    private static <T> T call(ClientProvider provider, Function<MilvusClientV2, T> operation) {
+        MilvusClientV2 client = provider.acquire();
+        try {
+            return operation.apply(client);
+        } finally {
+            provider.release(client);
+        }
+    }
+
+    /**
+     * Holds the types used by the readiness values, which are resolved once the module is initialized.
+     */
+    private static final class Types {
+        private static final ArrayType COLLECTION_READINESS_ARRAY = TypeCreator.createArrayType(
+                ValueCreator.createRecordValue(ModuleUtils.getModule(), COLLECTION_READINESS).getType());
+    }
+}
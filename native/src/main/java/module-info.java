@@ -21,4 +21,5 @@ module io.ballerina.stdlib.serdes {
     requires io.ballerina.lang;
     requires milvus.sdk.java;
     requires com.google.gson;
+    requires io.grpc;
 }
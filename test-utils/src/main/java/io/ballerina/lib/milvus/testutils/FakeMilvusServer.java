@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.milvus.testutils;
+
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import io.milvus.grpc.CollectionSchema;
+import io.milvus.grpc.ConnectRequest;
+import io.milvus.grpc.ConnectResponse;
+import io.milvus.grpc.DataType;
+import io.milvus.grpc.DescribeCollectionRequest;
+import io.milvus.grpc.DescribeCollectionResponse;
+import io.milvus.grpc.FieldSchema;
+import io.milvus.grpc.IDs;
+import io.milvus.grpc.KeyValuePair;
+import io.milvus.grpc.LongArray;
+import io.milvus.grpc.MilvusServiceGrpc;
+import io.milvus.grpc.MutationResult;
+import io.milvus.grpc.SearchRequest;
+import io.milvus.grpc.SearchResultData;
+import io.milvus.grpc.SearchResults;
+import io.milvus.grpc.UpsertRequest;
+import io.milvus.v2.client.ConnectConfig;
+import io.milvus.v2.client.MilvusClientV2;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A stand-in for the Milvus service that runs in the process of the benchmarks or the tests and answers over the
+ * loopback interface. It serves the RPCs used by the upsert and search operations with canned responses, so the
+ * benchmarks measure the client-side encoding, serialization and conversion costs without a Milvus deployment.
+ * <p>
+ * The searches can be made to fail or to respond late, so that the tests can drive the retries, hedging and deadlines
+ * of the client, and the server counts the searches it receives and the most it served at the same time.
+ */
+public final class FakeMilvusServer extends MilvusServiceGrpc.MilvusServiceImplBase implements AutoCloseable {
+    public static final String COLLECTION_NAME = "benchmark_collection";
+    private static final String ID_FIELD = "id";
+    private static final String VECTOR_FIELD = "vector";
+    private static final int DEFAULT_TOP_K = 10;
+
+    private final int dimension;
+    private final Server server;
+    private final Map<Long, SearchResults> searchResults = new ConcurrentHashMap<>();
+    private final AtomicLong searchCount = new AtomicLong();
+    private final AtomicInteger activeSearches = new AtomicInteger();
+    private final AtomicInteger peakActiveSearches = new AtomicInteger();
+    private final AtomicLong failingSearches = new AtomicLong();
+    private final AtomicLong rejectedSearches = new AtomicLong();
+    private final AtomicLong delayedSearches = new AtomicLong();
+    private volatile long searchDelay;
+
+    private FakeMilvusServer(int dimension) throws IOException {
+        this.dimension = dimension;
+        this.server = ServerBuilder.forPort(0).addService(this).build().start();
+    }
+
+    public static FakeMilvusServer start(long dimension) throws IOException {
+        return new FakeMilvusServer((int) dimension);
+    }
+
+    public int getPort() {
+        return server.getPort();
+    }
+
+    public MilvusClientV2 newClient() {
+        return new MilvusClientV2(ConnectConfig.builder()
+                .uri("http://localhost:" + server.getPort())
+                .build());
+    }
+
+    @Override
+    public void connect(ConnectRequest request, StreamObserver<ConnectResponse> responseObserver) {
+        responseObserver.onNext(ConnectResponse.newBuilder().build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void describeCollection(DescribeCollectionRequest request,
+                                   StreamObserver<DescribeCollectionResponse> responseObserver) {
+        CollectionSchema schema = CollectionSchema.newBuilder()
+                .setName(COLLECTION_NAME)
+                .setEnableDynamicField(true)
+                .addFields(FieldSchema.newBuilder()
+                        .setFieldID(100)
+                        .setName(ID_FIELD)
+                        .setDataType(DataType.Int64)
+                        .setIsPrimaryKey(true))
+                .addFields(FieldSchema.newBuilder()
+                        .setFieldID(101)
+                        .setName(VECTOR_FIELD)
+                        .setDataType(DataType.FloatVector)
+                        .addTypeParams(KeyValuePair.newBuilder().setKey("dim").setValue(String.valueOf(dimension))))
+                .addFields(FieldSchema.newBuilder()
+                        .setFieldID(102)
+                        .setName("$meta")
+                        .setDataType(DataType.JSON)
+                        .setIsDynamic(true))
+                .build();
+        responseObserver.onNext(DescribeCollectionResponse.newBuilder()
+                .setCollectionName(COLLECTION_NAME)
+                .setCollectionID(1)
+                .setSchema(schema)
+                .build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void upsert(UpsertRequest request, StreamObserver<MutationResult> responseObserver) {
+        responseObserver.onNext(MutationResult.newBuilder()
+                .setUpsertCnt(request.getNumRows())
+                .build());
+        responseObserver.onCompleted();
+    }
+
+    /**
+     * Fails the next searches with an UNAVAILABLE status, which the client treats as transient.
+     */
+    public void failSearches(long count) {
+        failingSearches.set(count);
+    }
+
+    /**
+     * Fails the next searches with an INVALID_ARGUMENT status, which the client does not retry.
+     */
+    public void rejectSearches(long count) {
+        rejectedSearches.set(count);
+    }
+
+    /**
+     * Delays the responses to the next searches by the given number of milliseconds.
+     */
+    public void delaySearches(long count, long delayMillis) {
+        searchDelay = delayMillis;
+        delayedSearches.set(count);
+    }
+
+    public long getSearchCount() {
+        return searchCount.get();
+    }
+
+    /**
+     * Returns the most searches served at the same time since the last reset.
+     */
+    public int getPeakConcurrentSearches() {
+        return peakActiveSearches.get();
+    }
+
+    public void resetPeakConcurrentSearches() {
+        peakActiveSearches.set(0);
+    }
+
+    @Override
+    public void search(SearchRequest request, StreamObserver<SearchResults> responseObserver) {
+        searchCount.incrementAndGet();
+        peakActiveSearches.accumulateAndGet(activeSearches.incrementAndGet(), Math::max);
+        try {
+            if (takeOne(delayedSearches)) {
+                Thread.sleep(searchDelay);
+            }
+            if (takeOne(failingSearches)) {
+                responseObserver.onError(Status.UNAVAILABLE.withDescription("Search failed").asRuntimeException());
+                return;
+            }
+            if (takeOne(rejectedSearches)) {
+                responseObserver.onError(
+                        Status.INVALID_ARGUMENT.withDescription("Search rejected").asRuntimeException());
+                return;
+            }
+            respond(request, responseObserver);
+        } catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+            responseObserver.onError(Status.CANCELLED.asRuntimeException());
+        } finally {
+            activeSearches.decrementAndGet();
+        }
+    }
+
+    private void respond(SearchRequest request, StreamObserver<SearchResults> responseObserver) {
+        long queries = request.getNq();
+        long topK = DEFAULT_TOP_K;
+        for (KeyValuePair param : request.getSearchParamsList()) {
+            if ("topk".equals(param.getKey()) || "limit".equals(param.getKey())) {
+                topK = Long.parseLong(param.getValue());
+            }
+        }
+        responseObserver.onNext(searchResults.computeIfAbsent(queries << 32 | topK,
+                key -> createSearchResults(key >>> 32, key & 0xFFFFFFFFL)));
+        responseObserver.onCompleted();
+    }
+
+    private static SearchResults createSearchResults(long queries, long topK) {
+        SearchResultData.Builder data = SearchResultData.newBuilder()
+                .setNumQueries(queries)
+                .setTopK(topK)
+                .setPrimaryFieldName(ID_FIELD);
+        LongArray.Builder ids = LongArray.newBuilder();
+        for (long query = 0; query < queries; query++) {
+            data.addTopks(topK);
+            for (long rank = 0; rank < topK; rank++) {
+                ids.addData(rank);
+                data.addScores(1.0f - rank / (float) topK);
+            }
+        }
+        return SearchResults.newBuilder()
+                .setCollectionName(COLLECTION_NAME)
+                .setResults(data.setIds(IDs.newBuilder().setIntId(ids)))
+                .build();
+    }
+
+    private static boolean takeOne(AtomicLong remaining) {
+        return remaining.getAndUpdate(count -> Math.max(count - 1, 0)) > 0;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+}